@@ -0,0 +1,83 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.domain.slot.SlotImportance;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForMonth;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한달 일정 캐시의 하루(hash field) 값 직렬화 비교
+ * 캐시 값은 날짜 하나와 중요도 상위 2개 슬롯이므로 슬롯 0~2개인 하루를 기준으로 측정한다.
+ * 값 크기는 setup 에서 한번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduleSerializerBenchmark {
+
+    @Param({"0", "1", "2"})
+    private int slotSize;
+
+    private final BinaryScheduleSerializer binarySerializer = new BinaryScheduleSerializer();
+    private final JsonScheduleSerializer jsonSerializer = new JsonScheduleSerializer(new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    private List<DateDtoForMonth> day;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        LocalDate today = LocalDate.of(2025, 3, 14);
+        List<SlotDtoForMonth> slots = new ArrayList<>();
+        for (int i = 0; i < slotSize; i++) {
+            slots.add(SlotDtoForMonth.builder()
+                    .groupId(12L)
+                    .slotId(100_000L + i)
+                    .title(i == 0 ? "주간 회의" : "프로젝트 마감 " + i)
+                    .startTime(today.atTime(9 + i, 30))
+                    .importance(SlotImportance.values()[i % SlotImportance.values().length])
+                    .build());
+        }
+        day = List.of(new DateDtoForMonth(slotSize, today, slots));
+        binary = binarySerializer.serialize(day);
+        json = jsonSerializer.serialize(day);
+        System.out.printf("slotSize=%d, binary=%d bytes, json=%d bytes%n", slotSize, binary.length, json.length);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(day);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(day);
+    }
+
+    @Benchmark
+    public List<DateDtoForMonth> binaryDeserialize() {
+        return binarySerializer.deserialize(binary);
+    }
+
+    @Benchmark
+    public List<DateDtoForMonth> jsonDeserialize() {
+        return jsonSerializer.deserialize(json);
+    }
+}
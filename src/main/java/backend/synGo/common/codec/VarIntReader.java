@@ -0,0 +1,93 @@
+package backend.synGo.common.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 바이너리 직렬화(일정 캐시, 동기화 메시지) 공통 reader, VarIntWriter 로 쓴 값을 읽는다.
+ * 잘리거나 잘못된 값은 IllegalArgumentException
+ */
+public final class VarIntReader {
+
+    private final byte[] bytes;
+    private final String truncatedMessage;
+    private int position;
+
+    /**
+     * @param bytes
+     * @param position 읽기 시작 위치 (header 다음)
+     * @param truncatedMessage 값이 잘렸을 때 예외 메시지
+     */
+    public VarIntReader(byte[] bytes, int position, String truncatedMessage) {
+        this.bytes = bytes;
+        this.position = position;
+        this.truncatedMessage = truncatedMessage;
+    }
+
+    public int read() {
+        if (position >= bytes.length) {
+            throw new IllegalArgumentException(truncatedMessage);
+        }
+        return bytes[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = read();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("잘못된 varint");
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("잘못된 길이 값: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readZigZag() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        return readString(readVarInt());
+    }
+
+    public String readNullableString() {
+        int length = readVarInt();
+        return length == 0 ? null : readString(length - 1);
+    }
+
+    public Long readNullableLong() {
+        return read() == 0 ? null : readZigZag();
+    }
+
+    public LocalDateTime readDateTime() {
+        if (read() == 0) return null;
+        long second = readZigZag();
+        return LocalDateTime.ofEpochSecond(second, readVarInt(), ZoneOffset.UTC);
+    }
+
+    public <E extends Enum<E>> E readEnum(E[] values) {
+        int tag = readVarInt();
+        if (tag > values.length) {
+            throw new IllegalArgumentException("알 수 없는 enum 값: " + tag);
+        }
+        return tag == 0 ? null : values[tag - 1];
+    }
+
+    public String readString(int length) {
+        if (length > bytes.length - position) {
+            throw new IllegalArgumentException(truncatedMessage);
+        }
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+package backend.synGo.common.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 바이너리 직렬화(일정 캐시, 동기화 메시지) 공통 writer
+ * 정수는 varint(음수 가능 값은 zigzag), 문자열은 길이 + UTF-8 로 쓴다.
+ * VarIntReader 와 짝을 이룬다.
+ */
+public final class VarIntWriter extends ByteArrayOutputStream {
+
+    public VarIntWriter(int initialSize) {
+        super(initialSize);
+    }
+
+    public void writeVarInt(long value) {
+        while ((value & ~0x7FL) != 0) {
+            write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        write((int) value);
+    }
+
+    public void writeZigZag(long value) {
+        writeVarInt((value << 1) ^ (value >> 63));
+    }
+
+    public void writeString(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf8.length);
+        write(utf8, 0, utf8.length);
+    }
+
+    /**
+     * 길이 + 1 (0 이면 null) + UTF-8
+     */
+    public void writeNullableString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf8.length + 1L);
+        write(utf8, 0, utf8.length);
+    }
+
+    public void writeNullableLong(Long value) {
+        write(value == null ? 0 : 1);
+        if (value != null) writeZigZag(value);
+    }
+
+    /**
+     * 0 이면 null, 아니면 1, epoch second, 나노초
+     */
+    public void writeDateTime(LocalDateTime value) {
+        write(value == null ? 0 : 1);
+        if (value == null) return;
+        writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarInt(value.getNano());
+    }
+
+    /**
+     * ordinal + 1 (0 이면 null)
+     */
+    public void writeEnum(Enum<?> value) {
+        writeVarInt(value == null ? 0 : value.ordinal() + 1L);
+    }
+}
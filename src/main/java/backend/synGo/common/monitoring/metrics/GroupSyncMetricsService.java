@@ -0,0 +1,76 @@
+package backend.synGo.common.monitoring.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 그룹 동기화 발행(GroupSyncBatcher) 메트릭
+ * group_sync_publish 는 이전에 트랜잭션 안에서 기다리던 Redis 발행 시간으로, 지금은 커밋 후 별도 스레드에서 기록된다.
+ * 트랜잭션 시간 자체는 hikaricp_connections_usage_seconds (커넥션 점유 시간)로 비교한다.
+ */
+@Service
+public class GroupSyncMetricsService {
+
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_RETRY = "retry";
+    public static final String RESULT_DROPPED = "dropped";
+
+    private final MeterRegistry meterRegistry;
+
+    public GroupSyncMetricsService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Redis 발행 시간과 결과 기록
+     * @param startNanos
+     * @param result success, retry, dropped
+     */
+    public void recordPublish(long startNanos, String result) {
+        timer("group_sync_publish").record(elapsed(startNanos), TimeUnit.NANOSECONDS);
+        meterRegistry.counter("group_sync_publish_total", "result", result).increment();
+    }
+
+    /**
+     * 첫 이벤트 발생부터 발행까지의 시간 (커밋 대기 + 모으는 시간 + 재시도)
+     * @param eventNanos
+     */
+    public void recordDelay(long eventNanos) {
+        timer("group_sync_delay").record(elapsed(eventNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 발행 대기 그룹 수가 최대값에 도달해 버린 이벤트
+     */
+    public void recordRejected() {
+        meterRegistry.counter("group_sync_rejected_total").increment();
+    }
+
+    /**
+     * 발행 대기 그룹 수 gauge 등록
+     * @param batcher
+     * @param pendingFunction
+     */
+    public <T> void bindPending(T batcher, ToDoubleFunction<T> pendingFunction) {
+        Gauge.builder("group_sync_pending_groups", batcher, pendingFunction)
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(meterRegistry);
+    }
+
+    private static long elapsed(long startNanos) {
+        return System.nanoTime() - startNanos;
+    }
+}
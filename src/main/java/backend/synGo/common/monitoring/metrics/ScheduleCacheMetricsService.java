@@ -0,0 +1,169 @@
+package backend.synGo.common.monitoring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 일정 캐시(GroupSchedulerProvider) 메트릭
+ * 모든 메트릭은 key 종류(family: GROUP, MY_GROUP, MY, GROUP_DAY)로 구분한다.
+ * 조회 결과(hit, empty, miss)와 조회 계층(local, redis)은 schedule_cache_get 의 태그로 기록해 적중률을 계산할 수 있다.
+ */
+@Service
+public class ScheduleCacheMetricsService {
+
+    public static final String LAYER_LOCAL = "local";
+    public static final String LAYER_REDIS = "redis";
+
+    public static final String RESULT_HIT = "hit";
+    public static final String RESULT_EMPTY = "empty";
+    public static final String RESULT_MISS = "miss";
+
+    private static final Duration MIN_EXPECTED_TIME = Duration.ofNanos(50_000);
+    private static final Duration MAX_EXPECTED_TIME = Duration.ofSeconds(2);
+
+    private final MeterRegistry meterRegistry;
+
+    public ScheduleCacheMetricsService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 조회 시간 기록
+     * @param family
+     * @param result hit, empty, miss
+     * @param layer 값을 찾은 계층, miss 이면 마지막으로 조회한 계층
+     * @param startNanos
+     */
+    public void recordGet(String family, String result, String layer, long startNanos) {
+        timer("schedule_cache_get", "family", family, "result", result, "layer", layer).record(elapsed(startNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Redis 에서 읽은 값의 역직렬화 시간과 크기 기록
+     * @param family
+     * @param startNanos
+     * @param bytes
+     */
+    public void recordDecode(String family, long startNanos, long bytes) {
+        timer("schedule_cache_decode", "family", family).record(elapsed(startNanos), TimeUnit.NANOSECONDS);
+        payload(family, "read").record(bytes);
+    }
+
+    /**
+     * 저장 시간과 크기 기록
+     * @param family
+     * @param startNanos
+     * @param bytes 직렬화된 크기, 알 수 없으면 음수
+     */
+    public void recordSave(String family, long startNanos, long bytes) {
+        timer("schedule_cache_save", "family", family).record(elapsed(startNanos), TimeUnit.NANOSECONDS);
+        if (bytes >= 0) payload(family, "write").record(bytes);
+    }
+
+    /**
+     * 캐시 정책에서 저장을 거절한 경우
+     * @param family
+     */
+    public void recordSaveRejected(String family) {
+        counter("schedule_cache_save_rejected_total", "family", family).increment();
+    }
+
+    /**
+     * 한달 캐시의 하루 교체 시간 기록
+     * @param family
+     * @param startNanos
+     */
+    public void recordPatch(String family, long startNanos) {
+        timer("schedule_cache_patch", "family", family).record(elapsed(startNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 삭제한 key 수 기록
+     * @param family
+     * @param count
+     */
+    public void recordEvict(String family, int count) {
+        counter("schedule_cache_evict_total", "family", family).increment(count);
+    }
+
+    /**
+     * Redis 오류, 역직렬화 실패 등
+     * @param family
+     * @param operation get, decode, save, patch, version, members
+     * @param e
+     */
+    public void recordError(String family, String operation, Exception e) {
+        counter("schedule_cache_errors_total", "family", family, "operation", operation,
+                "error_type", e.getClass().getSimpleName()).increment();
+    }
+
+    /**
+     * circuit breaker 가 OPEN 이라 Redis 호출을 건너뛴 경우
+     * @param family
+     * @param operation get, save, version, members
+     */
+    public void recordBypass(String family, String operation) {
+        counter("schedule_cache_bypass_total", "family", family, "operation", operation).increment();
+    }
+
+    /**
+     * slow-call 기준보다 오래 걸린 Redis 호출
+     */
+    public void recordSlowCall() {
+        counter("schedule_cache_slow_calls_total").increment();
+    }
+
+    /**
+     * circuit breaker 상태 변경
+     * @param state 변경 후 상태
+     */
+    public void recordCircuitTransition(String state) {
+        counter("schedule_cache_circuit_transitions_total", "state", state).increment();
+    }
+
+    /**
+     * circuit breaker 상태 gauge 등록 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+     * @param breaker
+     * @param stateFunction
+     */
+    public <T> void bindCircuitState(T breaker, ToDoubleFunction<T> stateFunction) {
+        Gauge.builder("schedule_cache_circuit_state", breaker, stateFunction)
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED_TIME)
+                .maximumExpectedValue(MAX_EXPECTED_TIME)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary payload(String family, String operation) {
+        return DistributionSummary.builder("schedule_cache_payload_bytes")
+                .baseUnit("bytes")
+                .tags("family", family, "operation", operation)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(16.0)
+                .maximumExpectedValue(64.0 * 1024)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String... tags) {
+        return meterRegistry.counter(name, tags);
+    }
+
+    private static long elapsed(long startNanos) {
+        return System.nanoTime() - startNanos;
+    }
+}
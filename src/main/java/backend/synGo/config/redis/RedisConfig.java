@@ -3,15 +3,19 @@ package backend.synGo.config.redis;
 import backend.synGo.form.DateDtoForMonth;
 import backend.synGo.form.GroupDateInfo;
 import backend.synGo.webSocket.config.RedisSubscriber;
+import backend.synGo.webSocket.config.SyncChannels;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -20,8 +24,10 @@ import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -31,11 +37,12 @@ public class RedisConfig {
 
     private final RedisProperties redisProperties;
     /**
-     * 단일 Topic 사용을 위한 Bean 설정
+     * 모든 서버가 구독하는 Topic (로컬 캐시 무효화 등)
+     * 그룹 동기화 메시지는 그룹별 채널로 발행되며 GroupChannelSubscriptions 에서 STOMP 구독에 따라 동적으로 구독한다.
      */
     @Bean
     public ChannelTopic channelTopic() {
-        return new ChannelTopic("myGroupSynGo");
+        return new ChannelTopic(SyncChannels.CONTROL_TOPIC);
     }
 
     /**
@@ -55,20 +62,39 @@ public class RedisConfig {
     }
 
     /**
-     * 수신 하기전 메시지 파싱을 위한 리스너 어댑터 설정
-     * subscriber의 updatedData 메서드를 호출
+     * 수신한 메시지를 subscriber 로 전달하는 리스너 어댑터 설정
+     * subscriber 가 MessageListener 이므로 변환 없이 byte[] 그대로 onMessage 를 호출한다.
      */
     @Bean
     public MessageListenerAdapter listenerAdapterGroupMessage(RedisSubscriber subscriber) {
-        return new MessageListenerAdapter(subscriber, "updatedData");
+        return new MessageListenerAdapter(subscriber);
     }
 
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
+        return new LettuceConnectionFactory(standaloneConfiguration());
+    }
+
+    /**
+     * 일정 캐시 전용 연결, Redis 가 느려져도 요청이 오래 막히지 않도록 명령 timeout 을 짧게 둔다.
+     * timeout 으로 실패한 호출은 ScheduleCacheCircuitBreaker 에 기록되어 DB 조회로 우회한다.
+     */
+    @Bean
+    @Qualifier("scheduleCacheConnectionFactory")
+    public RedisConnectionFactory scheduleCacheConnectionFactory(
+            @Value("${security.scheduler.circuit-breaker.command-timeout-millis:300}") long commandTimeoutMillis) {
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+                .build();
+        return new LettuceConnectionFactory(standaloneConfiguration(), clientConfig);
+    }
+
+    private RedisStandaloneConfiguration standaloneConfiguration() {
         RedisStandaloneConfiguration config =
                 new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
         config.setPassword(redisProperties.getPassword());
-        return new LettuceConnectionFactory(config);
+        return config;
     }
 
     // 기본 RedisTemplate (사용하지 않으면 제거 가능)
@@ -97,7 +123,8 @@ public class RedisConfig {
     // 그룹 스케줄용 RedisTemplate
     @Bean
     @Qualifier("groupScheduleRedisTemplate")
-    public RedisTemplate<String, Object> groupScheduleRedisTemplate(RedisConnectionFactory factory) {
+    public RedisTemplate<String, Object> groupScheduleRedisTemplate(
+            @Qualifier("scheduleCacheConnectionFactory") RedisConnectionFactory factory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(factory);
 
@@ -113,4 +140,29 @@ public class RedisConfig {
 
         return template;
     }
+
+    // pub/sub 동기화 메시지용 RedisTemplate, SyncMessageCodec 으로 직렬화한 byte[] 그대로 발행
+    @Bean
+    @Qualifier("syncRedisTemplate")
+    public RedisTemplate<String, byte[]> syncRedisTemplate(RedisConnectionFactory factory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    // 한달 일정 캐시용 RedisTemplate, 날짜(일)를 field 로 하는 hash 에 ScheduleSerializer 로 직렬화한 byte[] 그대로 저장
+    @Bean
+    @Qualifier("scheduleBytesRedisTemplate")
+    public RedisTemplate<String, byte[]> scheduleBytesRedisTemplate(
+            @Qualifier("scheduleCacheConnectionFactory") RedisConnectionFactory factory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.common.codec.VarIntReader;
+import backend.synGo.common.codec.VarIntWriter;
+import backend.synGo.domain.slot.SlotImportance;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForMonth;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한달 일정 전용 바이너리 직렬화
+ * header : magic(1) version(1)
+ * body   : 날짜 수, 날짜마다 [epoch day 차이, slotCount, 슬롯 수, 슬롯...]
+ * slot   : mask(1), groupId, slotId, 제목, 시작 시간(해당 날짜 0시 기준 초, 나노초), 중요도(ordinal + 1, 없으면 0)
+ * 정수는 모두 varint(음수 가능 값은 zigzag), 제목은 UTF-8 길이 + 1(null 이면 0) 뒤에 UTF-8 로 쓴다.
+ * 캐시 값은 하루(상위 2개 슬롯) 단위라 압축과 제목 참조로 줄일 수 있는 크기가 거의 없어 사용하지 않는다. (src/jmh 참고)
+ */
+@Component
+@ConditionalOnProperty(name = "security.scheduler.codec.type", havingValue = "binary", matchIfMissing = true)
+public class BinaryScheduleSerializer implements ScheduleSerializer {
+
+    // JSON 값('[' 또는 '{')과 겹치지 않는 값, 이전 형식으로 저장된 캐시를 구분하는데 사용
+    static final byte MAGIC = (byte) 0xB1;
+    // 1: flags 와 압축, 제목 참조를 쓰던 형식
+    static final byte VERSION = 2;
+
+    private static final int HAS_GROUP_ID = 1;
+    private static final int HAS_SLOT_ID = 1 << 1;
+    private static final int HAS_START_TIME = 1 << 2;
+
+    private static final SlotImportance[] IMPORTANCES = SlotImportance.values();
+
+    @Override
+    public byte[] serialize(List<DateDtoForMonth> schedule) {
+        VarIntWriter body = new VarIntWriter(64);
+        body.write(MAGIC);
+        body.write(VERSION);
+        body.writeVarInt(schedule.size());
+        long previousDay = 0;
+        for (DateDtoForMonth date : schedule) {
+            long epochDay = date.getToday().toEpochDay();
+            body.writeZigZag(epochDay - previousDay);
+            previousDay = epochDay;
+            body.writeVarInt(date.getSlotCount());
+
+            List<SlotDtoForMonth> slots = date.getSlotInfo() == null ? Collections.emptyList() : date.getSlotInfo();
+            body.writeVarInt(slots.size());
+            long dayStartSecond = epochDay * 86_400L;
+            for (SlotDtoForMonth slot : slots) {
+                writeSlot(body, slot, dayStartSecond);
+            }
+        }
+        return body.toByteArray();
+    }
+
+    @Override
+    public List<DateDtoForMonth> deserialize(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != MAGIC || bytes[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 일정 캐시 형식");
+        }
+        VarIntReader body = new VarIntReader(bytes, 2, "일정 캐시 값이 잘렸습니다");
+        int dateCount = body.readVarInt();
+        List<DateDtoForMonth> schedule = new ArrayList<>(dateCount);
+        long epochDay = 0;
+        for (int i = 0; i < dateCount; i++) {
+            epochDay += body.readZigZag();
+            int slotCount = body.readVarInt();
+            int slotSize = body.readVarInt();
+            long dayStartSecond = epochDay * 86_400L;
+            List<SlotDtoForMonth> slots = new ArrayList<>(slotSize);
+            for (int j = 0; j < slotSize; j++) {
+                slots.add(readSlot(body, dayStartSecond));
+            }
+            schedule.add(new DateDtoForMonth(slotCount, LocalDate.ofEpochDay(epochDay), slots));
+        }
+        return schedule;
+    }
+
+    private static void writeSlot(VarIntWriter body, SlotDtoForMonth slot, long dayStartSecond) {
+        int mask = 0;
+        if (slot.getGroupId() != null) mask |= HAS_GROUP_ID;
+        if (slot.getSlotId() != null) mask |= HAS_SLOT_ID;
+        if (slot.getStartTime() != null) mask |= HAS_START_TIME;
+        body.write(mask);
+
+        if (slot.getGroupId() != null) body.writeZigZag(slot.getGroupId());
+        if (slot.getSlotId() != null) body.writeZigZag(slot.getSlotId());
+        body.writeNullableString(slot.getTitle());
+        if (slot.getStartTime() != null) {
+            body.writeZigZag(slot.getStartTime().toEpochSecond(ZoneOffset.UTC) - dayStartSecond);
+            body.writeVarInt(slot.getStartTime().getNano());
+        }
+        body.write(slot.getImportance() == null ? 0 : slot.getImportance().ordinal() + 1);
+    }
+
+    private static SlotDtoForMonth readSlot(VarIntReader body, long dayStartSecond) {
+        int mask = body.read();
+        Long groupId = (mask & HAS_GROUP_ID) != 0 ? body.readZigZag() : null;
+        Long slotId = (mask & HAS_SLOT_ID) != 0 ? body.readZigZag() : null;
+        String title = body.readNullableString();
+        LocalDateTime startTime = null;
+        if ((mask & HAS_START_TIME) != 0) {
+            long second = dayStartSecond + body.readZigZag();
+            startTime = LocalDateTime.ofEpochSecond(second, body.readVarInt(), ZoneOffset.UTC);
+        }
+        int importance = body.read();
+        if (importance > IMPORTANCES.length) {
+            throw new IllegalArgumentException("알 수 없는 중요도 값: " + importance);
+        }
+        return SlotDtoForMonth.builder()
+                .groupId(groupId)
+                .slotId(slotId)
+                .title(title)
+                .startTime(startTime)
+                .importance(importance == 0 ? null : IMPORTANCES[importance - 1])
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.form.DateDtoForMonth;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 한달 일정 캐시 조회 결과
+ * HIT   : 일정이 있는 달
+ * EMPTY : 일정이 없는 달로 캐싱된 경우 (DB 조회 불필요)
+ * MISS  : 캐시 없음
+ * version 은 캐시를 채울 때의 한달 뷰 버전으로, ETag 는 현재 버전이 아니라 이 값으로 만든다.
+ */
+@Getter
+public final class CachedMonth {
+
+    public enum Status { HIT, EMPTY, MISS }
+
+    private static final CachedMonth MISS = new CachedMonth(Status.MISS, Collections.emptyList(), OptionalLong.empty());
+
+    private final Status status;
+    private final List<DateDtoForMonth> schedule;
+    private final OptionalLong version;
+
+    private CachedMonth(Status status, List<DateDtoForMonth> schedule, OptionalLong version) {
+        this.status = status;
+        this.schedule = schedule;
+        this.version = version;
+    }
+
+    public static CachedMonth miss() {
+        return MISS;
+    }
+
+    /**
+     * @param schedule
+     * @param version 버전이 없는 캐시(MY_GROUP)면 empty
+     * @return
+     */
+    public static CachedMonth of(List<DateDtoForMonth> schedule, OptionalLong version) {
+        return new CachedMonth(schedule.isEmpty() ? Status.EMPTY : Status.HIT, schedule, version);
+    }
+
+    public boolean isMiss() {
+        return status == Status.MISS;
+    }
+}
@@ -1,28 +1,92 @@
 package backend.synGo.config.scheduler;
 
+import backend.synGo.common.monitoring.metrics.ScheduleCacheMetricsService;
+import backend.synGo.form.DateDtoForDay;
 import backend.synGo.form.DateDtoForMonth;
-import com.fasterxml.jackson.core.type.TypeReference;
+import backend.synGo.webSocket.config.RedisPublisher;
+import backend.synGo.webSocket.message.CacheEvictBatchMessage;
+import backend.synGo.webSocket.message.CacheEvictMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GroupSchedulerProvider {
 
+    private static final int UNLINK_BATCH_SIZE = 500;
+    // 메트릭 태그, 한달 캐시는 ScheduleFamily 이름을 사용
+    private static final String GROUP_DAY_FAMILY = "GROUP_DAY";
+    // 가입 시 set 이 없어 추가를 건너뛴 경우 등 DB 와 어긋난 set 이 남지 않도록 주기적으로 다시 채운다.
+    private static final Duration MEMBER_SET_DURATION = Duration.ofDays(1);
+    // 일정이 없는 달도 캐시로 구분할 수 있도록 모든 한달 캐시에 저장하는 field (날짜(일)와 겹치지 않음)
+    // 값은 캐시를 채운 시점의 한달 뷰 버전, 버전이 없는 캐시(MY_GROUP)는 빈 값
+    private static final String CACHED_FIELD = "0";
+    // 한달 캐시 저장: 버전이 DB 조회 전에 읽은 값 그대로인 경우만 기존 hash 삭제 후 표시 field(버전)와 날짜별 field 저장
+    // DB 조회 중 커밋된 변경은 버전만 올리고 지나가므로, 버전이 바뀌었으면 조회한 값이 이전 데이터일 수 있어 저장하지 않는다.
+    // KEYS[1] = 한달 캐시, KEYS[2] = 버전(없으면 확인 생략), ARGV[1] = TTL(ms), ARGV[2] = 조회 전 버전, ARGV[3..] = (일, 값) 쌍
+    private static final RedisScript<Long> SAVE_MONTH_SCRIPT = new DefaultRedisScript<>(
+            "if #KEYS > 1 and (redis.call('get', KEYS[2]) or '0') ~= ARGV[2] then return 0 end " +
+            "redis.call('del', KEYS[1]) " +
+            "redis.call('hset', KEYS[1], '" + CACHED_FIELD + "', ARGV[2]) " +
+            "for i = 3, #ARGV, 2 do redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('pexpire', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+    // 버전 증가 후 한달 캐시가 있으면 하루 교체(값이 비어있으면 삭제)와 함께 표시 field 를 새 한달 버전으로 변경
+    // 캐시가 없으면 버전만 증가, 마지막 날이 삭제되어도 표시 field 가 남아 빈 달로 캐싱된 상태를 유지한다.
+    // KEYS[1] = 한달 캐시, KEYS[2] = 한달 버전, KEYS[3..] = 그 외 버전, ARGV = (일, 값, 버전 시작 값, 버전 TTL(ms))
+    private static final RedisScript<Long> PATCH_MONTH_SCRIPT = new DefaultRedisScript<>(
+            "local version = 0 " +
+            "for i = 2, #KEYS do " +
+            "  redis.call('setnx', KEYS[i], ARGV[3]) " +
+            "  local current = redis.call('incr', KEYS[i]) " +
+            "  redis.call('pexpire', KEYS[i], ARGV[4]) " +
+            "  if i == 2 then version = current end " +
+            "end " +
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "  if string.len(ARGV[2]) == 0 then redis.call('hdel', KEYS[1], ARGV[1]) " +
+            "  else redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) end " +
+            "  redis.call('hset', KEYS[1], '" + CACHED_FIELD + "', version) " +
+            "end " +
+            "return 1",
+            Long.class);
+    // 버전 key 는 캐시 TTL 보다 길게 유지해 캐시가 남아있는 동안 사라지지 않게 한다.
+    // 사라져도 다음 증가가 현재 시간으로 시작하므로 이전 버전과 겹치지 않는다.
+    private static final int VERSION_DURATION_MULTIPLIER = 2;
+    private static final RedisScript<Long> ADD_MEMBER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('sadd', KEYS[1], ARGV[1]) else return 0 end",
+            Long.class);
+
     @Qualifier("groupScheduleRedisTemplate")
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> scheduleBytesRedisTemplate;
+    private final ScheduleSerializer scheduleSerializer;
     private final ObjectMapper objectMapper;
+    private final ScheduleLocalCache localCache;
+    private final RedisPublisher redisPublisher;
+    private final ScheduleSingleFlight singleFlight;
+    private final ScheduleCachePolicy cachePolicy;
+    private final ScheduleCacheMetricsService metrics;
+    private final ScheduleCacheCircuitBreaker circuitBreaker;
 
     @Value("${security.scheduler.group.expiration}")
     private long saveGroupDataMinutes;
@@ -30,79 +94,786 @@ public class GroupSchedulerProvider {
     @Value("${security.scheduler.user.expiration}")
     private long saveUserDataMinutes;
 
+    @Value("${security.scheduler.empty-expiration-minutes:10}")
+    private long saveEmptyMonthMinutes;
+
+    // 한달 캐시는 hash 로 저장하므로 string 으로 저장하던 이전 key 와 이름이 겹치지 않게 "h:" namespace 를 사용한다.
+    // 같은 key 를 쓰면 배포 직후 이전 key 의 HGETALL/HSET 이 WRONGTYPE 으로 실패해 circuit breaker 가 열리고,
+    // 배포 중인 이전 서버도 새 hash key 를 GET 하며 같은 오류가 난다. 이전 key 는 각자의 TTL 로 정리된다.
     private String getGroupRedisKey(Long groupId, int year, int month) {
-        return "GROUP:" + groupId + ":" + year + ":" + month;
+        return "GROUP:h:" + groupId + ":" + year + ":" + month;
     }
     private String getMyGroupRedisKey(Long userId, int year, int month) {
-        return "MY_GROUP:" + userId + ":" + year + ":" + month;
+        return "MY_GROUP:h:" + userId + ":" + year + ":" + month;
     }
     private String getMyRedisKey(Long userId, int year, int month) {
-        return "MY:" + userId + ":" + year + ":" + month;
+        return "MY:h:" + userId + ":" + year + ":" + month;
+    }
+    private String getGroupVersionKey(Long groupId, int year, int month) {
+        return "VERSION:GROUP:" + groupId + ":" + year + ":" + month;
+    }
+    private String getMyVersionKey(Long userId, int year, int month) {
+        return "VERSION:MY:" + userId + ":" + year + ":" + month;
+    }
+    private String getGroupIndexVersionKey(Long groupId) {
+        return "VERSION:GROUP:" + groupId;
+    }
+    private String getMyIndexVersionKey(Long userId) {
+        return "VERSION:MY:" + userId;
+    }
+    private String getGroupMembersKey(Long groupId) {
+        return "MEMBERS:GROUP:" + groupId;
+    }
+    // 하루 캐시는 한달 뷰 버전별 key 에 저장한다. 슬롯 변경으로 버전이 오르면 이전 key 는 더 조회되지 않고 TTL 로 정리되며,
+    // 이전 버전에서 DB 조회를 시작한 요청이 늦게 저장해도 이전 버전 key 에만 남는다.
+    private String getGroupDayRedisKey(Long groupId, LocalDate day, long version) {
+        return "GROUP_DAY:" + groupId + ":" + day.getYear() + ":" + day.getMonthValue() + ":" + day.getDayOfMonth() + ":v" + version;
     }
 
-    public void saveGroupScheduler(Long groupId, List<DateDtoForMonth> dateDtoForMonths, int year, int month) {
-        String key = getGroupRedisKey(groupId, year, month);
-        Duration duration = Duration.ofMinutes(saveGroupDataMinutes);
-        redisTemplate.opsForValue().set(key, dateDtoForMonths, duration);
-        log.info("그룹 데이터 캐싱");
+    /**
+     * @param groupId
+     * @param dateDtoForMonths
+     * @param year
+     * @param month
+     * @param version DB 조회 전에 읽은 한달 뷰 버전, 그 사이 버전이 바뀌었거나 알 수 없으면 저장하지 않는다.
+     */
+    public void saveGroupScheduler(Long groupId, List<DateDtoForMonth> dateDtoForMonths, int year, int month, OptionalLong version) {
+        saveMonth(ScheduleFamily.GROUP, getGroupRedisKey(groupId, year, month), dateDtoForMonths,
+                Duration.ofMinutes(saveGroupDataMinutes), year, month, getGroupVersionKey(groupId, year, month), version);
     }
     public void saveMyGroupScheduler(Long userId, List<DateDtoForMonth> dateDtoForMonths, int year, int month) {
-        String key = getMyGroupRedisKey(userId, year, month);
-        Duration duration = Duration.ofMinutes(saveUserDataMinutes);
-        redisTemplate.opsForValue().set(key, dateDtoForMonths, duration);
-        log.info("유저의 그룹 데이터 캐싱");
-    }
-    public void saveMyScheduler(Long userId, List<DateDtoForMonth> dateDtoForMonths, int year, int month) {
-        String key = getMyRedisKey(userId, year, month);
-        Duration duration = Duration.ofMinutes(saveUserDataMinutes);
-        redisTemplate.opsForValue().set(key, dateDtoForMonths, duration);
-        log.info("유저 데이터 캐싱");
-    }
-
-    public List<DateDtoForMonth> getGroupSchedule(Long groupId, int year, int month) {
-        Object value = redisTemplate.opsForValue().get(getGroupRedisKey(groupId, year, month));
-        if (value == null) return Collections.emptyList();
-        log.info("그룹 데이터 조회");
-        return objectMapper.convertValue(value, new TypeReference<>(){});
-    }
-    public List<DateDtoForMonth> getMyGroupSchedule(Long userId, int year, int month) {
-        Object value = redisTemplate.opsForValue().get(getMyGroupRedisKey(userId, year, month));
-        if (value == null) return Collections.emptyList();
-        log.info("유저의 그룹 데이터 캐싱");
-        return objectMapper.convertValue(value, new TypeReference<>(){});
-    }
-    public List<DateDtoForMonth> getMySchedule(Long userId, int year, int month) {
-        Object value = redisTemplate.opsForValue().get(getMyRedisKey(userId, year, month));
-        if (value == null) return Collections.emptyList();
-        log.info("유저 데이터 캐싱");
-        return objectMapper.convertValue(value, new TypeReference<>(){});
-    }
-
-    public void evictGroupSchedule(Long groupId, int year, int month) {
+        saveMonth(ScheduleFamily.MY_GROUP, getMyGroupRedisKey(userId, year, month), dateDtoForMonths,
+                Duration.ofMinutes(saveUserDataMinutes), year, month, null, OptionalLong.empty());
+    }
+    /**
+     * @param userId
+     * @param dateDtoForMonths
+     * @param year
+     * @param month
+     * @param version DB 조회 전에 읽은 한달 뷰 버전, 그 사이 버전이 바뀌었거나 알 수 없으면 저장하지 않는다.
+     */
+    public void saveMyScheduler(Long userId, List<DateDtoForMonth> dateDtoForMonths, int year, int month, OptionalLong version) {
+        saveMonth(ScheduleFamily.MY, getMyRedisKey(userId, year, month), dateDtoForMonths,
+                Duration.ofMinutes(saveUserDataMinutes), year, month, getMyVersionKey(userId, year, month), version);
+    }
+
+    /**
+     * 다음 달 캐시 미리 채우기, 곧 이번 달이 되므로 캐시 정책의 admission 과 거리별 TTL 을 적용하지 않는다.
+     * 조회 중 변경된 데이터를 이전 버전으로 저장하지 않도록 loader 호출 전에 버전을 읽는다.
+     * @param family
+     * @param ownerId GROUP 이면 groupId, 그 외 userId
+     * @param yearMonth
+     * @param loader
+     */
+    public void prewarmSchedule(ScheduleFamily family, Long ownerId, YearMonth yearMonth, Supplier<List<DateDtoForMonth>> loader) {
+        int year = yearMonth.getYear();
+        int month = yearMonth.getMonthValue();
+        switch (family) {
+            case GROUP -> {
+                String versionKey = getGroupVersionKey(ownerId, year, month);
+                OptionalLong version = getVersion(family, versionKey);
+                writeMonth(family, getGroupRedisKey(ownerId, year, month), loader.get(), Duration.ofMinutes(saveGroupDataMinutes), versionKey, version);
+            }
+            case MY_GROUP -> writeMonth(family, getMyGroupRedisKey(ownerId, year, month), loader.get(), Duration.ofMinutes(saveUserDataMinutes), null, OptionalLong.empty());
+            case MY -> {
+                String versionKey = getMyVersionKey(ownerId, year, month);
+                OptionalLong version = getVersion(family, versionKey);
+                writeMonth(family, getMyRedisKey(ownerId, year, month), loader.get(), Duration.ofMinutes(saveUserDataMinutes), versionKey, version);
+            }
+        }
+    }
+
+    /**
+     * 그룹 하루 뷰 캐시 저장
+     * @param groupId
+     * @param dateDtoForDay
+     * @param day
+     * @param version DB 조회 전에 읽은 한달 뷰 버전, 알 수 없으면 저장하지 않는다.
+     */
+    public void saveGroupDaySchedule(Long groupId, DateDtoForDay dateDtoForDay, LocalDate day, OptionalLong version) {
+        if (version.isEmpty()) return;
+        if (save(GROUP_DAY_FAMILY, getGroupDayRedisKey(groupId, day, version.getAsLong()), dateDtoForDay, Duration.ofMinutes(saveGroupDataMinutes))) {
+            log.info("그룹 하루 데이터 캐싱");
+        }
+    }
+
+    /**
+     * 캐시 조회 대상인 달인지 확인
+     * @param family
+     * @param year
+     * @param month
+     * @return
+     */
+    public boolean isCacheableMonth(ScheduleFamily family, int year, int month) {
+        return cachePolicy.isCacheable(family, year, month);
+    }
+
+    public CachedMonth getGroupSchedule(Long groupId, int year, int month) {
+        return getMonthSchedule(ScheduleFamily.GROUP, getGroupRedisKey(groupId, year, month), "그룹 데이터 조회", OptionalLong.empty());
+    }
+    public CachedMonth getMyGroupSchedule(Long userId, int year, int month) {
+        return getMonthSchedule(ScheduleFamily.MY_GROUP, getMyGroupRedisKey(userId, year, month), "유저의 그룹 데이터 캐싱", OptionalLong.empty());
+    }
+    public CachedMonth getMySchedule(Long userId, int year, int month) {
+        return getMySchedule(userId, year, month, OptionalLong.empty());
+    }
+
+    /**
+     * 개인 한달 캐시 조회, 저장된 버전이 version 보다 오래된 캐시는 없는 것으로 본다.
+     * @param userId
+     * @param year
+     * @param month
+     * @param version 조회 전에 읽은 한달 뷰 버전
+     * @return
+     */
+    public CachedMonth getMySchedule(Long userId, int year, int month, OptionalLong version) {
+        return getMonthSchedule(ScheduleFamily.MY, getMyRedisKey(userId, year, month), "유저 데이터 캐싱", version);
+    }
+
+    /**
+     * 그룹 한달 데이터 조회, 캐시가 없으면 같은 key 의 동시 요청 중 하나만 loader 로 조회 후 캐싱한다.
+     * 슬롯 변경으로 캐시가 삭제된 직후 그룹원 전체가 다시 요청하는 경우 DB 조회를 한번으로 줄인다.
+     * @param groupId
+     * @param year
+     * @param month
+     * @param version loader 호출 전에 읽은 한달 뷰 버전
+     * @param loader
+     * @return 일정과 그 일정의 버전 (캐시에서 읽었으면 캐시에 저장된 버전, DB 에서 읽었으면 version)
+     */
+    public Versioned<List<DateDtoForMonth>> loadGroupSchedule(Long groupId, int year, int month, OptionalLong version,
+                                                              Supplier<List<DateDtoForMonth>> loader) {
         String key = getGroupRedisKey(groupId, year, month);
-        redisTemplate.delete(key);
-        log.info("그룹 캐시 삭제 groupId={}", groupId);
+        CachedMonth cached = getMonthSchedule(ScheduleFamily.GROUP, key, "그룹 데이터 조회", version);
+        if (!cached.isMiss()) return Versioned.of(cached.getSchedule(), cached.getVersion());
+        //Redis 장애 중에는 lease 와 저장 없이 서버 안의 요청만 합쳐 DB 조회
+        if (circuitBreaker.isOpen()) return Versioned.of(singleFlight.loadLocal(key, loader), version);
+        //다시 확인, 다른 서버의 적재 대기(polling)는 이 요청의 miss 로 이미 기록했으므로 조회 메트릭을 남기지 않는다.
+        return singleFlight.load(key,
+                () -> {
+                    CachedMonth schedule = readMonthSchedule(ScheduleFamily.GROUP, key, "그룹 데이터 조회", version, false);
+                    return schedule.isMiss() ? null : Versioned.of(schedule.getSchedule(), schedule.getVersion());
+                },
+                () -> {
+                    List<DateDtoForMonth> schedule = loader.get();
+                    saveGroupScheduler(groupId, schedule, year, month, version);
+                    return Versioned.of(schedule, version);
+                });
+    }
+
+    /**
+     * 그룹 하루 뷰 캐시 조회, 캐시가 없으면 null
+     * @param groupId
+     * @param day
+     * @param version 조회 전에 읽은 한달 뷰 버전, 알 수 없으면 캐시를 사용하지 않는다.
+     * @return
+     */
+    public DateDtoForDay getGroupDaySchedule(Long groupId, LocalDate day, OptionalLong version) {
+        if (version.isEmpty()) return null;
+        String key = getGroupDayRedisKey(groupId, day, version.getAsLong());
+        long start = System.nanoTime();
+        DateDtoForDay local = localCache.getDay(key);
+        if (local != null) {
+            metrics.recordGet(GROUP_DAY_FAMILY, ScheduleCacheMetricsService.RESULT_HIT, ScheduleCacheMetricsService.LAYER_LOCAL, start);
+            return local;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordBypass(GROUP_DAY_FAMILY, "get");
+            return null;
+        }
+        long redisStart = System.nanoTime();
+        Object value;
+        try {
+            value = redisTemplate.opsForValue().get(key);
+            circuitBreaker.onSuccess(redisStart);
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            metrics.recordError(GROUP_DAY_FAMILY, "get", e);
+            log.warn("일정 캐시 조회 실패 key={}, {}", key, e.getMessage());
+            return null;
+        }
+        if (value == null) {
+            metrics.recordGet(GROUP_DAY_FAMILY, ScheduleCacheMetricsService.RESULT_MISS, ScheduleCacheMetricsService.LAYER_REDIS, start);
+            return null;
+        }
+        log.info("그룹 하루 데이터 조회");
+        DateDtoForDay dateDtoForDay = objectMapper.convertValue(value, DateDtoForDay.class).toUnmodifiable();
+        localCache.putDay(key, dateDtoForDay);
+        metrics.recordGet(GROUP_DAY_FAMILY, ScheduleCacheMetricsService.RESULT_HIT, ScheduleCacheMetricsService.LAYER_REDIS, start);
+        return dateDtoForDay;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 캐시 변경(하루 교체, 삭제, 버전 증가) 실행, 트랜잭션 밖이면 바로 실행
+     * 커밋 전에 바꾸면 롤백 시 커밋되지 않은 값이 캐시에 남고, 그 사이 캐시 miss 로 커밋 전 DB 값을 다시 저장할 수 있으며
+     * Redis 왕복 동안 행 잠금을 잡고 있게 된다.
+     * 커밋 후에는 되돌릴 수 없으므로 실패는 기록만 하고 캐시는 TTL 로 만료되게 둔다.
+     * @param task
+     */
+    public void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runCacheTask(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runCacheTask(task);
+            }
+        });
+    }
+
+    private void runCacheTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("커밋 후 일정 캐시 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 슬롯 변경 시 그룹 한달 캐시의 하루만 교체하고 그룹 한달, 전체 버전 증가
+     * 하루 캐시는 한달 버전별 key 에 있으므로 버전 증가로 이전 key 는 더 조회되지 않는다.
+     * @param groupId
+     * @param day
+     * @param dateDto 변경 후 하루 데이터, 슬롯이 없으면 null
+     */
+    public void patchGroupSchedule(Long groupId, LocalDate day, DateDtoForMonth dateDto) {
+        patchMonth(ScheduleFamily.GROUP, getGroupRedisKey(groupId, day.getYear(), day.getMonthValue()), day, dateDto,
+                getGroupVersionKey(groupId, day.getYear(), day.getMonthValue()), getGroupIndexVersionKey(groupId));
+        metrics.recordEvict(GROUP_DAY_FAMILY, 1);
+        log.info("그룹 캐시 하루 갱신 groupId={}, day={}", groupId, day);
     }
+
+    /**
+     * 슬롯 변경 시 개인 한달 캐시의 하루만 교체하고 개인 한달, 전체 버전 증가
+     * @param userId
+     * @param day
+     * @param dateDto 변경 후 하루 데이터, 슬롯이 없으면 null
+     */
+    public void patchMySchedule(Long userId, LocalDate day, DateDtoForMonth dateDto) {
+        patchMonth(ScheduleFamily.MY, getMyRedisKey(userId, day.getYear(), day.getMonthValue()), day, dateDto,
+                getMyVersionKey(userId, day.getYear(), day.getMonthValue()), getMyIndexVersionKey(userId));
+        log.info("유저 캐시 하루 갱신 userId={}, day={}", userId, day);
+    }
+
     public void evictMyGroupSchedule(Long userId, int year, int month) {
-        String key = getMyGroupRedisKey(userId, year, month);
-        redisTemplate.delete(key);
+        evict(ScheduleFamily.MY_GROUP.name(), getMyGroupRedisKey(userId, year, month));
         log.info("유저 그룹 캐시 삭제 userId={}", userId);
     }
-    public void evictMySchedule(Long userId, int year, int month) {
-        String key = getMyRedisKey(userId, year, month);
-        redisTemplate.delete(key);
-        log.info("유저 캐시 삭제 userId={}", userId);
+
+    /**
+     * 그룹원 모두의 유저 그룹 캐시 삭제
+     * 그룹원 id 는 Redis set 에서 읽고, set 이 없으면 memberLoader 로 채운 뒤 한번의 pipeline 으로 UNLINK 한다.
+     * @param groupId
+     * @param year
+     * @param month
+     * @param memberLoader
+     */
+    public void evictMembersMyGroupSchedule(Long groupId, int year, int month, Supplier<List<Long>> memberLoader) {
+        List<String> keys = getGroupMembers(groupId, memberLoader).stream()
+                .map(userId -> getMyGroupRedisKey(userId, year, month))
+                .toList();
+        unlinkAll(ScheduleFamily.MY_GROUP, keys);
+        log.info("그룹원 유저 그룹 캐시 삭제 groupId={}, count={}", groupId, keys.size());
+    }
+
+    /**
+     * 캐시될 수 있는 모든 달의 유저 그룹 캐시 삭제 (그룹 가입 등 모든 달이 바뀌는 경우)
+     * @param userId
+     */
+    public void evictMyGroupScheduleAllMonths(Long userId) {
+        List<String> keys = cachePolicy.cacheableMonths(ScheduleFamily.MY_GROUP).stream()
+                .map(yearMonth -> getMyGroupRedisKey(userId, yearMonth.getYear(), yearMonth.getMonthValue()))
+                .toList();
+        unlinkAll(ScheduleFamily.MY_GROUP, keys);
+        log.info("유저 그룹 캐시 전체 삭제 userId={}", userId);
+    }
+
+    /**
+     * 그룹원 set 에 추가, set 이 아직 없으면 다음 조회 시 DB 에서 채우므로 추가하지 않는다.
+     * 빠지면 그 그룹원의 유저 그룹 캐시가 삭제되지 않으므로 무효화와 같이 circuit breaker 상태와 관계없이 실행하고,
+     * 실패는 기록만 한다. (set 은 MEMBER_SET_DURATION 뒤에 DB 에서 다시 채워짐)
+     * 트랜잭션 안에서 호출하지 않도록 afterCommit 으로 실행한다.
+     * @param groupId
+     * @param userId
+     */
+    public void addGroupMember(Long groupId, Long userId) {
+        try {
+            invalidate(() -> redisTemplate.execute(ADD_MEMBER_SCRIPT, List.of(getGroupMembersKey(groupId)), userId));
+        } catch (DataAccessException e) {
+            metrics.recordError(ScheduleFamily.MY_GROUP.name(), "members", e);
+            log.warn("그룹원 set 추가 실패 groupId={}, userId={}, {}", groupId, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 그룹원 id 조회, Redis set 에 없거나 circuit breaker 가 OPEN 이거나 조회에 실패하면 memberLoader(DB)로 조회
+     * set 은 Redis 조회에 성공한 경우만 채운다.
+     * @param groupId
+     * @param memberLoader
+     * @return
+     */
+    private List<Long> getGroupMembers(Long groupId, Supplier<List<Long>> memberLoader) {
+        String key = getGroupMembersKey(groupId);
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordBypass(ScheduleFamily.MY_GROUP.name(), "members");
+            return memberLoader.get();
+        }
+        long start = System.nanoTime();
+        Set<Object> members;
+        try {
+            members = redisTemplate.opsForSet().members(key);
+            circuitBreaker.onSuccess(start);
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            metrics.recordError(ScheduleFamily.MY_GROUP.name(), "members", e);
+            log.warn("그룹원 set 조회 실패 groupId={}, {}", groupId, e.getMessage());
+            return memberLoader.get();
+        }
+        if (members != null && !members.isEmpty()) {
+            return members.stream().map(member -> ((Number) member).longValue()).toList();
+        }
+        List<Long> memberIds = memberLoader.get();
+        if (!memberIds.isEmpty() && circuitBreaker.tryAcquire()) {
+            long saveStart = System.nanoTime();
+            try {
+                redisTemplate.opsForSet().add(key, memberIds.toArray());
+                redisTemplate.expire(key, MEMBER_SET_DURATION);
+                circuitBreaker.onSuccess(saveStart);
+            } catch (DataAccessException e) {
+                //채우지 못해도 이번 삭제는 DB 에서 읽은 그룹원으로 진행
+                circuitBreaker.onFailure();
+                metrics.recordError(ScheduleFamily.MY_GROUP.name(), "members", e);
+                log.warn("그룹원 set 저장 실패 groupId={}, {}", groupId, e.getMessage());
+            }
+        }
+        return memberIds;
+    }
+
+    /**
+     * 여러 key 를 UNLINK_BATCH_SIZE 씩 나눈 UNLINK 명령을 한번의 pipeline 으로 삭제
+     * @param keys
+     */
+    private void unlinkAll(ScheduleFamily family, List<String> keys) {
+        if (keys.isEmpty()) return;
+        invalidate(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keys.size(); from += UNLINK_BATCH_SIZE) {
+                byte[][] batch = keys.subList(from, Math.min(keys.size(), from + UNLINK_BATCH_SIZE)).stream()
+                        .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                        .toArray(byte[][]::new);
+                connection.keyCommands().unlink(batch);
+            }
+            return null;
+        }));
+        keys.forEach(localCache::invalidate);
+        metrics.recordEvict(family.name(), keys.size());
+        publishEvict(new CacheEvictBatchMessage(keys));
+    }
+
+    /**
+     * 다른 서버의 로컬 캐시 무효화 메시지 발행, 실패해도 캐시 변경은 끝났으므로 기록만 한다.
+     * 받지 못한 서버의 로컬 캐시는 버전 확인과 TTL 로 정리된다.
+     * @param message
+     */
+    private void publishEvict(Object message) {
+        try {
+            redisPublisher.publish(message);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 메시지 발행 실패 {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지 수신 시 로컬 캐시만 삭제
+     * @param key
+     */
+    public void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * Redis 장애 시 저장을 건너뛰고 조회 결과는 그대로 반환되도록 예외를 던지지 않는다.
+     * @param family
+     * @param key
+     * @param value
+     * @param duration
+     * @return 저장 여부
+     */
+    private boolean save(String family, String key, DateDtoForDay value, Duration duration) {
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordBypass(family, "save");
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            redisTemplate.opsForValue().set(key, value, duration);
+            circuitBreaker.onSuccess(start);
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            metrics.recordError(family, "save", e);
+            log.warn("일정 캐시 저장 실패 key={}, {}", key, e.getMessage());
+            return false;
+        }
+        localCache.putDay(key, value);
+        metrics.recordSave(family, start, -1);
+        return true;
+    }
+
+    /**
+     * 캐시 정책에서 허용한 달만 이번 달과의 거리에 따라 줄어든 TTL 로 저장
+     * 하루 단위로 바꿀 수 있도록 날짜(일)를 field 로 하는 hash 에 하루씩 직렬화해 저장한다.
+     * 일정이 없는 달도 저장하되 TTL 은 empty-expiration-minutes 를 넘지 않는다.
+     * @param family
+     * @param key
+     * @param value
+     * @param baseDuration
+     * @param year
+     * @param month
+     * @param versionKey 버전이 없는 캐시(MY_GROUP)면 null
+     * @param version DB 조회 전에 읽은 버전
+     */
+    private void saveMonth(ScheduleFamily family, String key, List<DateDtoForMonth> value, Duration baseDuration, int year, int month,
+                           String versionKey, OptionalLong version) {
+        if (!cachePolicy.admit(family, key, year, month)) {
+            metrics.recordSaveRejected(family.name());
+            return;
+        }
+        writeMonth(family, key, value, cachePolicy.ttl(family, baseDuration, year, month), versionKey, version);
+    }
+
+    /**
+     * versionKey 가 있으면 버전이 DB 조회 전에 읽은 version 그대로인 경우만 저장하고, hash 에 그 버전을 함께 저장한다.
+     * @param family
+     * @param key
+     * @param value
+     * @param duration
+     * @param versionKey 버전이 없는 캐시(MY_GROUP)면 null
+     * @param version
+     */
+    private void writeMonth(ScheduleFamily family, String key, List<DateDtoForMonth> value, Duration duration,
+                            String versionKey, OptionalLong version) {
+        //버전을 알 수 없으면(Redis 장애) 조회한 값이 어느 버전인지 알 수 없으므로 저장하지 않는다.
+        if (versionKey != null && version.isEmpty()) return;
+        if (circuitBreaker.isOpen()) {
+            metrics.recordBypass(family.name(), "save");
+            return;
+        }
+        long start = System.nanoTime();
+        if (value.isEmpty()) {
+            Duration emptyDuration = Duration.ofMinutes(saveEmptyMonthMinutes);
+            if (duration.compareTo(emptyDuration) > 0) duration = emptyDuration;
+        }
+        Object[] args = new Object[value.size() * 2 + 2];
+        args[0] = toBytes(Long.toString(duration.toMillis()));
+        args[1] = toBytes(version.isPresent() ? Long.toString(version.getAsLong()) : "");
+        long bytes = 0;
+        for (int i = 0; i < value.size(); i++) {
+            DateDtoForMonth date = value.get(i);
+            byte[] serialized = scheduleSerializer.serialize(List.of(date));
+            args[i * 2 + 2] = toBytes(getDayField(date.getToday()));
+            args[i * 2 + 3] = serialized;
+            bytes += serialized.length;
+        }
+        List<String> keys = versionKey == null ? List.of(key) : List.of(key, versionKey);
+        //직렬화가 끝난 뒤 Redis 호출 직전에 허용을 받아야 직렬화 예외로 HALF_OPEN probe 가 결과 없이 남지 않는다.
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordBypass(family.name(), "save");
+            return;
+        }
+        long redisStart = System.nanoTime();
+        Long saved;
+        try {
+            saved = scheduleBytesRedisTemplate.execute(SAVE_MONTH_SCRIPT, keys, args);
+            circuitBreaker.onSuccess(redisStart);
+        } catch (DataAccessException e) {
+            //저장 실패는 조회 결과에 영향이 없으므로 기록만 하고 넘어감
+            circuitBreaker.onFailure();
+            metrics.recordError(family.name(), "save", e);
+            log.warn("일정 캐시 저장 실패 key={}, {}", key, e.getMessage());
+            return;
+        }
+        if (saved == null || saved == 0L) {
+            //조회 중 다른 요청이 변경을 커밋해 버전이 바뀜, 다음 조회에서 새 버전으로 다시 채운다.
+            log.info("조회 중 버전이 바뀌어 일정 캐시 저장 생략 key={}", key);
+            return;
+        }
+        localCache.putMonth(key, value, version);
+        metrics.recordSave(family.name(), start, bytes);
+        log.info("{} 데이터 캐싱", family);
+    }
+
+    /**
+     * 한달 캐시에서 하루만 교체하고 버전 증가, 슬롯이 없는 날은 삭제
+     * 캐시가 없으면 새로 만들지 않고 버전만 증가시킨다.
+     * @param key
+     * @param day
+     * @param dateDto 변경 후 하루 데이터, 슬롯이 없으면 null
+     * @param versionKeys
+     */
+    private void patchMonth(ScheduleFamily family, String key, LocalDate day, DateDtoForMonth dateDto, String... versionKeys) {
+        long start = System.nanoTime();
+        byte[] value = dateDto == null || dateDto.getSlotCount() == 0
+                ? new byte[0]
+                : scheduleSerializer.serialize(List.of(dateDto));
+        List<String> keys = new ArrayList<>(versionKeys.length + 1);
+        keys.add(key);
+        keys.addAll(Arrays.asList(versionKeys));
+        try {
+            invalidate(() -> scheduleBytesRedisTemplate.execute(PATCH_MONTH_SCRIPT, keys,
+                    toBytes(getDayField(day)), value, toBytes(Long.toString(System.currentTimeMillis())),
+                    toBytes(Long.toString(getVersionDuration().toMillis()))));
+        } catch (DataAccessException e) {
+            metrics.recordError(family.name(), "patch", e);
+            throw e;
+        }
+        localCache.invalidate(key);
+        metrics.recordPatch(family.name(), start);
+        publishEvict(new CacheEvictMessage(key));
+    }
+
+    /**
+     * L1(로컬) -> L2(Redis) 순으로 조회, L2 에서 읽은 값은 역직렬화 후 L1 에 보관
+     * 하루 값이 다른 직렬화 형식이라 읽을 수 없으면 캐시가 없는 것으로 보고 다음 저장 시 덮어쓴다.
+     * @param family
+     * @param key
+     * @param logMessage
+     * @param version 조회 전에 읽은 버전, 저장된 버전이 이보다 오래된 캐시는 MISS 로 본다. 확인하지 않으면 empty
+     * @return 일정이 없는 달로 캐싱된 경우 EMPTY, 캐시가 없으면 MISS
+     */
+    private CachedMonth getMonthSchedule(ScheduleFamily family, String key, String logMessage, OptionalLong version) {
+        return readMonthSchedule(family, key, logMessage, version, true);
+    }
+
+    /**
+     * getMonthSchedule 과 같은 조회, recordGet 이 false 면 hit/miss 조회 메트릭을 남기지 않는다.
+     * single-flight 의 재확인과 다른 서버 적재 대기(polling)가 요청 한번을 여러 번의 miss 로 기록하지 않게 한다.
+     * @param family
+     * @param key
+     * @param logMessage
+     * @param version
+     * @param recordGet
+     * @return
+     */
+    private CachedMonth readMonthSchedule(ScheduleFamily family, String key, String logMessage, OptionalLong version, boolean recordGet) {
+        long start = System.nanoTime();
+        CachedMonth local = localCache.getMonth(key);
+        //무효화 메시지와 L1 적재가 겹쳐 남은 이전 버전은 버리고 Redis 에서 다시 읽는다.
+        if (local != null && !isOlder(local.getVersion(), version)) {
+            return recordGet(family, local, ScheduleCacheMetricsService.LAYER_LOCAL, start, recordGet);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordBypass(family.name(), "get");
+            return CachedMonth.miss();
+        }
+        long redisStart = System.nanoTime();
+        Map<String, byte[]> days;
+        try {
+            days = scheduleBytesRedisTemplate.<String, byte[]>opsForHash().entries(key);
+            circuitBreaker.onSuccess(redisStart);
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            log.warn("일정 캐시 조회 실패 key={}, {}", key, e.getMessage());
+            metrics.recordError(family.name(), "get", e);
+            return recordGet(family, CachedMonth.miss(), ScheduleCacheMetricsService.LAYER_REDIS, start, recordGet);
+        }
+        if (days.isEmpty()) {
+            return recordGet(family, CachedMonth.miss(), ScheduleCacheMetricsService.LAYER_REDIS, start, recordGet);
+        }
+        long decodeStart = System.nanoTime();
+        long bytes = 0;
+        List<DateDtoForMonth> schedule = new ArrayList<>(days.size());
+        OptionalLong cachedVersion;
+        try {
+            cachedVersion = parseVersion(days.get(CACHED_FIELD));
+            for (Map.Entry<String, byte[]> day : days.entrySet()) {
+                if (CACHED_FIELD.equals(day.getKey())) continue;
+                schedule.addAll(scheduleSerializer.deserialize(day.getValue()));
+                bytes += day.getValue().length;
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("일정 캐시 역직렬화 실패 key={}, {}", key, e.getMessage());
+            metrics.recordError(family.name(), "decode", e);
+            return recordGet(family, CachedMonth.miss(), ScheduleCacheMetricsService.LAYER_REDIS, start, recordGet);
+        }
+        if (isOlder(cachedVersion, version)) {
+            return recordGet(family, CachedMonth.miss(), ScheduleCacheMetricsService.LAYER_REDIS, start, recordGet);
+        }
+        schedule.sort(Comparator.comparing(DateDtoForMonth::getToday));
+        metrics.recordDecode(family.name(), decodeStart, bytes);
+        log.info(logMessage);
+        localCache.putMonth(key, schedule, cachedVersion);
+        return recordGet(family, CachedMonth.of(schedule, cachedVersion), ScheduleCacheMetricsService.LAYER_REDIS, start, recordGet);
+    }
+
+    /**
+     * 한달 캐시 표시 field 의 버전, 버전이 없는 캐시(MY_GROUP)면 empty
+     * @param field
+     * @return
+     */
+    private static OptionalLong parseVersion(byte[] field) {
+        if (field == null || field.length == 0) return OptionalLong.empty();
+        return OptionalLong.of(Long.parseLong(new String(field, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 캐시에 저장된 버전이 조회 전에 읽은 버전보다 오래되었는지 확인, 둘 중 하나라도 알 수 없으면 false
+     * @param cached
+     * @param current
+     * @return
+     */
+    private static boolean isOlder(OptionalLong cached, OptionalLong current) {
+        return cached.isPresent() && current.isPresent() && cached.getAsLong() < current.getAsLong();
+    }
+
+    private CachedMonth recordGet(ScheduleFamily family, CachedMonth cached, String layer, long start, boolean record) {
+        if (!record) return cached;
+        String result = switch (cached.getStatus()) {
+            case HIT -> ScheduleCacheMetricsService.RESULT_HIT;
+            case EMPTY -> ScheduleCacheMetricsService.RESULT_EMPTY;
+            case MISS -> ScheduleCacheMetricsService.RESULT_MISS;
+        };
+        metrics.recordGet(family.name(), result, layer, start);
+        return cached;
+    }
+
+    private static String getDayField(LocalDate day) {
+        return Integer.toString(day.getDayOfMonth());
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redis 와 로컬 캐시 삭제 후 다른 서버의 로컬 캐시 무효화 메시지 발행
+     * @param family 메트릭 태그
+     * @param key
+     */
+    private void evict(String family, String key) {
+        invalidate(() -> redisTemplate.delete(key));
+        localCache.invalidate(key);
+        metrics.recordEvict(family, 1);
+        publishEvict(new CacheEvictMessage(key));
+    }
+
+    /**
+     * 무효화(삭제, 하루 교체)는 circuit breaker 상태와 관계없이 항상 실행하고 결과만 기록한다.
+     * 건너뛰면 Redis 가 회복된 뒤 변경 전 값이 남기 때문이다.
+     * @param call
+     */
+    private <T> T invalidate(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess(start);
+            return result;
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * 그룹 한달(하루 포함) 뷰의 버전 조회, 변경 이력이 없으면 0
+     * @param groupId
+     * @param year
+     * @param month
+     * @return Redis 장애로 버전을 알 수 없으면 empty
+     */
+    public OptionalLong getGroupVersion(Long groupId, int year, int month) {
+        return getVersion(ScheduleFamily.GROUP, getGroupVersionKey(groupId, year, month));
+    }
+
+    /**
+     * 개인 한달(하루 포함) 뷰의 버전 조회, 변경 이력이 없으면 0
+     * @param userId
+     * @param year
+     * @param month
+     * @return Redis 장애로 버전을 알 수 없으면 empty
+     */
+    public OptionalLong getMyVersion(Long userId, int year, int month) {
+        return getVersion(ScheduleFamily.MY, getMyVersionKey(userId, year, month));
+    }
+
+    /**
+     * 여러 유저의 개인 슬롯 전체(모든 달)의 버전을 한번에 조회, interval index 갱신 여부 판단용
+     * @param userIds
+     * @return userIds 와 같은 순서의 버전, Redis 장애로 알 수 없으면 empty
+     */
+    public Optional<List<Long>> getMyIndexVersions(List<Long> userIds) {
+        return getVersions(ScheduleFamily.MY, userIds.stream().map(this::getMyIndexVersionKey).toList());
+    }
+
+    /**
+     * 여러 그룹 슬롯 전체(모든 달)의 버전을 한번에 조회, interval index 갱신 여부 판단용
+     * @param groupIds
+     * @return groupIds 와 같은 순서의 버전, Redis 장애로 알 수 없으면 empty
+     */
+    public Optional<List<Long>> getGroupIndexVersions(List<Long> groupIds) {
+        return getVersions(ScheduleFamily.GROUP, groupIds.stream().map(this::getGroupIndexVersionKey).toList());
+    }
+
+    /**
+     * circuit breaker 를 거쳐 여러 버전을 한번에 조회, OPEN 이거나 조회에 실패하면 empty
+     * @param family 메트릭 태그
+     * @param keys
+     * @return
+     */
+    private Optional<List<Long>> getVersions(ScheduleFamily family, List<String> keys) {
+        if (keys.isEmpty()) return Optional.of(Collections.emptyList());
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordBypass(family.name(), "version");
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+            circuitBreaker.onSuccess(start);
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            metrics.recordError(family.name(), "version", e);
+            log.warn("일정 캐시 버전 조회 실패 count={}, {}", keys.size(), e.getMessage());
+            return Optional.empty();
+        }
+        List<Long> versions = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            versions.add(value == null ? 0L : ((Number) value).longValue());
+        }
+        return Optional.of(versions);
     }
 
-    public boolean isSameYearAndMonth(LocalDate requestDay) {
-        log.info("이번 달 입니다");
-        return requestDay.getYear() == LocalDate.now().getYear() &&
-                requestDay.getMonth() == LocalDate.now().getMonth();
+    /**
+     * circuit breaker 를 거쳐 버전 조회, OPEN 이거나 조회에 실패하면 ETag 없이 응답하도록 empty 반환
+     * @param family
+     * @param key
+     * @return
+     */
+    private OptionalLong getVersion(ScheduleFamily family, String key) {
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordBypass(family.name(), "version");
+            return OptionalLong.empty();
+        }
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = redisTemplate.opsForValue().get(key);
+            circuitBreaker.onSuccess(start);
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            metrics.recordError(family.name(), "version", e);
+            log.warn("일정 캐시 버전 조회 실패 key={}, {}", key, e.getMessage());
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value == null ? 0L : ((Number) value).longValue());
     }
 
-    public boolean isSameYearAndMonthPlusOne(LocalDate requestDay) {
-        log.info("다음 달 입니다");
-        return requestDay.getYear() == LocalDate.now().plusMonths(1).getYear() &&
-                requestDay.getMonth() == LocalDate.now().plusMonths(1).getMonth();
+    /**
+     * 버전 key TTL, 가장 긴 캐시 TTL 의 VERSION_DURATION_MULTIPLIER 배
+     * @return
+     */
+    private Duration getVersionDuration() {
+        return Duration.ofMinutes(Math.max(saveGroupDataMinutes, saveUserDataMinutes) * VERSION_DURATION_MULTIPLIER);
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.form.DateDtoForMonth;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JSON 직렬화, 타입 정보(@class) 없이 List<DateDtoForMonth> 로 바로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.scheduler.codec.type", havingValue = "json")
+public class JsonScheduleSerializer implements ScheduleSerializer {
+
+    private static final TypeReference<List<DateDtoForMonth>> TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] serialize(List<DateDtoForMonth> schedule) {
+        try {
+            return objectMapper.writeValueAsBytes(schedule);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("일정 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public List<DateDtoForMonth> deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, TYPE);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("일정 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package backend.synGo.config.scheduler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 최근 한달 뷰를 조회한 그룹, 유저 기록 (다음 달 캐시 미리 채우기 대상)
+ * Redis ZSET 에 id 별 마지막 조회 시간을 score 로 저장하고, 같은 id 는 서버 마다 record-interval 에 한번만 기록한다.
+ */
+@Slf4j
+@Component
+public class ScheduleActivityTracker {
+
+    private static final String ACTIVE_GROUP_KEY = "ACTIVE:GROUP";
+    private static final String ACTIVE_USER_KEY = "ACTIVE:USER";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, Boolean> recorded;
+
+    public ScheduleActivityTracker(
+            @Qualifier("groupScheduleRedisTemplate") RedisTemplate<String, Object> redisTemplate,
+            @Value("${security.scheduler.prewarm.record-interval-minutes:5}") long recordIntervalMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.recorded = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMinutes(recordIntervalMinutes))
+                .build();
+    }
+
+    public void recordGroup(Long groupId) {
+        record(ACTIVE_GROUP_KEY, groupId);
+    }
+
+    public void recordUser(Long userId) {
+        record(ACTIVE_USER_KEY, userId);
+    }
+
+    /**
+     * window 안에 조회한 그룹을 최근 순으로 최대 limit 개, 오래된 기록은 함께 정리
+     * @param window
+     * @param limit
+     * @return
+     */
+    public List<Long> findActiveGroups(Duration window, int limit) {
+        return findActive(ACTIVE_GROUP_KEY, window, limit);
+    }
+
+    /**
+     * window 안에 조회한 유저를 최근 순으로 최대 limit 개, 오래된 기록은 함께 정리
+     * @param window
+     * @param limit
+     * @return
+     */
+    public List<Long> findActiveUsers(Duration window, int limit) {
+        return findActive(ACTIVE_USER_KEY, window, limit);
+    }
+
+    /**
+     * 여러 서버 중 한 곳만 작업을 실행하도록 lock 획득
+     * @param name
+     * @param duration
+     * @return
+     */
+    public boolean tryAcquireJob(String name, Duration duration) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent("LOCK:JOB:" + name, System.currentTimeMillis(), duration));
+    }
+
+    /**
+     * 작업이 끝나면 duration 을 기다리지 않고 lock 해제
+     * @param name
+     */
+    public void releaseJob(String name) {
+        redisTemplate.delete("LOCK:JOB:" + name);
+    }
+
+    private void record(String key, Long id) {
+        String localKey = key + ":" + id;
+        if (recorded.getIfPresent(localKey) != null) return;
+        recorded.put(localKey, Boolean.TRUE);
+        try {
+            redisTemplate.opsForZSet().add(key, id, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            //기록 실패가 조회를 막지 않도록 로그만 남김
+            log.warn("조회 기록 실패 key={}, id={}", key, id);
+        }
+    }
+
+    private List<Long> findActive(String key, Duration window, int limit) {
+        long from = System.currentTimeMillis() - window.toMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, from);
+        Set<Object> ids = redisTemplate.opsForZSet().reverseRangeByScore(key, from, Double.POSITIVE_INFINITY, 0, limit);
+        if (ids == null) return Collections.emptyList();
+        return ids.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+}
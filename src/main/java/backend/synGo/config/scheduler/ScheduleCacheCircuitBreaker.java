@@ -0,0 +1,143 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.common.monitoring.metrics.ScheduleCacheMetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 캐시 Redis 호출 circuit breaker
+ * 최근 window-size 번의 호출 중 실패하거나 slow-call-millis 보다 느린 호출의 비율이 failure-rate 이상이면 OPEN 으로 바꿔
+ * open-millis 동안 캐시 조회, 저장을 건너뛰고 DB 로 바로 조회하게 한다.
+ * 이후 HALF_OPEN 에서 half-open-probes 번의 호출만 Redis 로 보내 모두 정상이면 CLOSED, 하나라도 실패하면 다시 OPEN 으로 바꾼다.
+ */
+@Slf4j
+@Component
+public class ScheduleCacheCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ScheduleCacheMetricsService metrics;
+    private final int minimumCalls;
+    private final double failureRate;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    // 최근 호출 결과 (true = 실패 또는 느린 호출)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private long openUntilNanos;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public ScheduleCacheCircuitBreaker(
+            ScheduleCacheMetricsService metrics,
+            @Value("${security.scheduler.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${security.scheduler.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${security.scheduler.circuit-breaker.failure-rate:0.5}") double failureRate,
+            @Value("${security.scheduler.circuit-breaker.slow-call-millis:100}") long slowCallMillis,
+            @Value("${security.scheduler.circuit-breaker.open-millis:5000}") long openMillis,
+            @Value("${security.scheduler.circuit-breaker.half-open-probes:3}") int halfOpenProbes) {
+        this.metrics = metrics;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.min(Math.max(1, minimumCalls), window.length);
+        this.failureRate = failureRate;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        metrics.bindCircuitState(this, breaker -> breaker.getState().ordinal());
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Redis 호출 가능 여부, OPEN 이면 false
+     * HALF_OPEN 에서는 probe 수 만큼만 true 를 반환하므로 true 를 받은 호출은 반드시 결과를 기록해야 한다.
+     * @return
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) return true;
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openUntilNanos < 0) return false;
+            transition(State.HALF_OPEN);
+        }
+        if (probesStarted >= halfOpenProbes) return false;
+        probesStarted++;
+        return true;
+    }
+
+    /**
+     * OPEN 상태로 호출을 건너뛰는 중인지 확인 (probe 허용 수는 소모하지 않음)
+     * @return
+     */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && System.nanoTime() - openUntilNanos < 0;
+    }
+
+    /**
+     * 호출 성공 기록, slow-call-millis 보다 오래 걸린 호출은 실패로 본다.
+     * @param startNanos
+     */
+    public void onSuccess(long startNanos) {
+        boolean slow = System.nanoTime() - startNanos > slowCallNanos;
+        if (slow) metrics.recordSlowCall();
+        record(slow);
+    }
+
+    public void onFailure() {
+        record(true);
+    }
+
+    private synchronized void record(boolean failed) {
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                open();
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) return;
+
+        if (windowCalls == window.length) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) windowFailures++;
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCalls >= minimumCalls && windowFailures >= failureRate * windowCalls) {
+            open();
+        }
+    }
+
+    private void open() {
+        openUntilNanos = System.nanoTime() + openNanos;
+        transition(State.OPEN);
+    }
+
+    private void transition(State next) {
+        if (state == next) return;
+        log.warn("일정 캐시 circuit breaker {} -> {}", state, next);
+        state = next;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCalls = 0;
+            windowFailures = 0;
+        }
+        metrics.recordCircuitTransition(next.name());
+    }
+}
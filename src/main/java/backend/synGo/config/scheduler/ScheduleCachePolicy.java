@@ -0,0 +1,123 @@
+package backend.synGo.config.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한달 일정 캐시의 조회, 저장(admission), TTL 결정
+ * miss 횟수는 서버 간에 공유되도록 Redis 에 세고, 저장 여부를 판단할 때만 증가시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleCachePolicy {
+
+    @Qualifier("groupScheduleRedisTemplate")
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScheduleCacheProperties properties;
+    private final ScheduleCacheCircuitBreaker circuitBreaker;
+
+    /**
+     * 캐시를 조회할 대상인 달인지 확인 (window 안의 달)
+     * @param family
+     * @param year
+     * @param month
+     * @return
+     */
+    public boolean isCacheable(ScheduleFamily family, int year, int month) {
+        return distanceFromNow(year, month) <= properties.get(family).getWindowMonths();
+    }
+
+    /**
+     * 캐시될 수 있는 모든 달 (이번 달 기준 window 안의 달)
+     * @param family
+     * @return
+     */
+    public List<YearMonth> cacheableMonths(ScheduleFamily family) {
+        int window = properties.get(family).getWindowMonths();
+        YearMonth now = YearMonth.from(LocalDate.now());
+        List<YearMonth> months = new ArrayList<>(window * 2 + 1);
+        for (int i = -window; i <= window; i++) {
+            months.add(now.plusMonths(i));
+        }
+        return months;
+    }
+
+    /**
+     * 캐시에 저장할지 결정, hot 구간은 항상 저장하고 그 밖의 달은 miss 빈도가 기준 이상일 때만 저장
+     * miss 횟수는 circuit breaker 를 거쳐 세고, OPEN 이거나 실패하면 저장하지 않는다.
+     * @param family
+     * @param key
+     * @param year
+     * @param month
+     * @return
+     */
+    public boolean admit(ScheduleFamily family, String key, int year, int month) {
+        ScheduleCacheProperties.Family policy = properties.get(family);
+        long distance = distanceFromNow(year, month);
+        if (distance <= policy.getHotMonths()) return true;
+        if (distance > policy.getWindowMonths()) return false;
+
+        //Redis 장애 중에는 miss 횟수를 셀 수 없으므로 저장하지 않는다.
+        if (!circuitBreaker.tryAcquire()) return false;
+        String hitKey = "ADMIT:" + key;
+        long start = System.nanoTime();
+        Long hits;
+        try {
+            hits = redisTemplate.opsForValue().increment(hitKey);
+            if (hits != null && hits == 1) {
+                redisTemplate.expire(hitKey, Duration.ofMinutes(policy.getHitWindowMinutes()));
+            }
+            circuitBreaker.onSuccess(start);
+        } catch (DataAccessException e) {
+            circuitBreaker.onFailure();
+            log.warn("캐시 저장 허용 판단 실패 key={}, {}", key, e.getMessage());
+            return false;
+        }
+        boolean admitted = hits != null && hits >= policy.getMinHits();
+        if (admitted) log.info("캐시 저장 허용 key={}, hits={}", key, hits);
+        return admitted;
+    }
+
+    /**
+     * 이번 달과의 거리에 따라 줄어든 TTL
+     * @param family
+     * @param base 이번 달 TTL
+     * @param year
+     * @param month
+     * @return
+     */
+    public Duration ttl(ScheduleFamily family, Duration base, int year, int month) {
+        return scaleTtl(base, properties.get(family), distanceFromNow(year, month));
+    }
+
+    static Duration scaleTtl(Duration base, ScheduleCacheProperties.Family policy, long distance) {
+        long minutes = (long) (base.toMinutes() * Math.pow(policy.getTtlDecay(), distance));
+        return Duration.ofMinutes(Math.min(base.toMinutes(), Math.max(policy.getMinTtlMinutes(), minutes)));
+    }
+
+    /**
+     * 두 달 사이의 거리(개월), 연도가 바뀌는 경우(12월 -> 1월)도 1
+     * @param target
+     * @param now
+     * @return
+     */
+    static long monthDistance(YearMonth target, YearMonth now) {
+        return Math.abs(ChronoUnit.MONTHS.between(now, target));
+    }
+
+    private static long distanceFromNow(int year, int month) {
+        return monthDistance(YearMonth.of(year, month), YearMonth.from(LocalDate.now()));
+    }
+}
@@ -0,0 +1,42 @@
+package backend.synGo.config.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * key 종류 별 한달 일정 캐시 정책
+ * 이번 달 기준 거리(개월)가 hotMonths 이하이면 항상 캐싱하고, windowMonths 이하이면 hitWindowMinutes 안에
+ * minHits 번 이상 miss 가 난 달만 캐싱한다. TTL 은 거리 1개월마다 ttlDecay 배로 줄고 minTtlMinutes 아래로는 줄지 않는다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "security.scheduler.policy")
+public class ScheduleCacheProperties {
+
+    private Family group = new Family(1, 12, 2, 10, 0.5, 5);
+    private Family myGroup = new Family(0, 6, 2, 10, 0.5, 5);
+    private Family my = new Family(0, 6, 2, 10, 0.5, 5);
+
+    public Family get(ScheduleFamily family) {
+        return switch (family) {
+            case GROUP -> group;
+            case MY_GROUP -> myGroup;
+            case MY -> my;
+        };
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Family {
+        private int hotMonths;
+        private int windowMonths;
+        private int minHits;
+        private long hitWindowMinutes;
+        private double ttlDecay;
+        private long minTtlMinutes;
+    }
+}
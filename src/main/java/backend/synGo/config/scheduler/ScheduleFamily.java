@@ -0,0 +1,11 @@
+package backend.synGo.config.scheduler;
+
+/**
+ * 한달 일정 캐시의 key 종류
+ * GROUP : 그룹 한달 뷰, MY_GROUP : 유저가 속한 모든 그룹의 한달 뷰, MY : 유저 개인 한달 뷰
+ */
+public enum ScheduleFamily {
+    GROUP,
+    MY_GROUP,
+    MY
+}
@@ -0,0 +1,82 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.form.DateDtoForDay;
+import backend.synGo.form.DateDtoForMonth;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * 일정 캐시의 서버 내 L1 캐시 (Redis 는 L2)
+ * Caffeine(W-TinyLFU)으로 크기와 TTL 을 제한하고, Redis 에서 읽어 변환까지 끝난 값을 보관한다.
+ * 다른 서버의 변경은 pub/sub 무효화 메시지로 반영되며, 메시지와 읽기가 겹쳐 남는 값은 TTL 로 정리된다.
+ * 여러 요청이 같은 값을 공유하므로 한달, 하루 일정 모두 바꿀 수 없는 복사본으로 보관하고 그대로 반환한다.
+ */
+@Slf4j
+@Component
+public class ScheduleLocalCache {
+
+    private final Cache<String, Object> cache;
+
+    public ScheduleLocalCache(
+            @Value("${security.scheduler.local.maximum-size:10000}") long maximumSize,
+            @Value("${security.scheduler.local.expiration-seconds:30}") long expirationSeconds) {
+        this(maximumSize, expirationSeconds, Ticker.systemTicker());
+    }
+
+    ScheduleLocalCache(long maximumSize, long expirationSeconds, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expirationSeconds))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 한달 일정 조회
+     * @param key
+     * @return 바꿀 수 없는 list 와 Redis 에 함께 저장된 버전, 없으면 null
+     */
+    public CachedMonth getMonth(String key) {
+        return (CachedMonth) cache.getIfPresent(key);
+    }
+
+    /**
+     * 한달 일정 보관, 넘겨받은 list 와 slotInfo 를 호출한 쪽에서 바꿔도 캐시 값은 바뀌지 않는다.
+     * 버전은 Redis 의 한달 캐시에 저장된 값을 그대로 보관해 L1 에서 응답해도 일정과 ETag 가 어긋나지 않는다.
+     * @param key
+     * @param schedule
+     * @param version
+     */
+    public void putMonth(String key, List<DateDtoForMonth> schedule, OptionalLong version) {
+        cache.put(key, CachedMonth.of(schedule.stream().map(DateDtoForMonth::toUnmodifiable).toList(), version));
+    }
+
+    /**
+     * 하루 일정 조회
+     * @param key
+     * @return 바꿀 수 없는 하루 일정, 없으면 null
+     */
+    public DateDtoForDay getDay(String key) {
+        return (DateDtoForDay) cache.getIfPresent(key);
+    }
+
+    /**
+     * 하루 일정 보관, 넘겨받은 slotInfo 를 호출한 쪽에서 바꿔도 캐시 값은 바뀌지 않는다.
+     * @param key
+     * @param day
+     */
+    public void putDay(String key, DateDtoForDay day) {
+        cache.put(key, day.toUnmodifiable());
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+}
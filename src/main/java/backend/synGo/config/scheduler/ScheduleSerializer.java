@@ -0,0 +1,21 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.form.DateDtoForMonth;
+
+import java.util.List;
+
+/**
+ * 한달 일정 캐시 값의 직렬화 방식
+ * security.scheduler.codec.type 으로 binary(기본), json 중 선택한다.
+ */
+public interface ScheduleSerializer {
+
+    byte[] serialize(List<DateDtoForMonth> schedule);
+
+    /**
+     * 다른 형식으로 저장된 값이면 IllegalArgumentException
+     * @param bytes
+     * @return
+     */
+    List<DateDtoForMonth> deserialize(byte[] bytes);
+}
@@ -0,0 +1,178 @@
+package backend.synGo.config.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 miss 요청 합치기 (single-flight)
+ * 같은 key 로 동시에 들어온 miss 는 서버 안에서 하나의 loader 만 실행하고 나머지는 그 결과를 기다린다.
+ * lease 사용 시 Redis 의 짧은 lock 으로 서버 간에도 한 곳만 적재하고, 나머지 서버는 캐시가 채워질 때까지 polling 한다.
+ * 대기 시간을 넘기거나 적재가 실패하면 각자 loader 를 실행한다.
+ * lease 가 해제되었는데 캐시가 없으면(저장 거절, 저장 실패 등) 대기 시간을 기다리지 않고 바로 loader 를 실행한다.
+ */
+@Slf4j
+@Component
+public class ScheduleSingleFlight {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean leaseEnabled;
+    private final Duration leaseDuration;
+    private final long waitMillis;
+    private final long pollMillis;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public ScheduleSingleFlight(
+            @Qualifier("groupScheduleRedisTemplate") RedisTemplate<String, Object> redisTemplate,
+            @Value("${security.scheduler.single-flight.lease-enabled:true}") boolean leaseEnabled,
+            @Value("${security.scheduler.single-flight.lease-millis:3000}") long leaseMillis,
+            @Value("${security.scheduler.single-flight.wait-millis:2000}") long waitMillis,
+            @Value("${security.scheduler.single-flight.poll-millis:50}") long pollMillis) {
+        this.redisTemplate = redisTemplate;
+        this.leaseEnabled = leaseEnabled;
+        this.leaseDuration = Duration.ofMillis(leaseMillis);
+        this.waitMillis = waitMillis;
+        this.pollMillis = pollMillis;
+    }
+
+    /**
+     * key 에 대한 loader 실행을 하나로 합친다.
+     * @param key 캐시 key
+     * @param cached 캐시 조회, 없으면 null
+     * @param loader DB 조회 후 캐시 저장까지 하는 적재 함수
+     * @return
+     */
+    public <T> T load(String key, Supplier<T> cached, Supplier<T> loader) {
+        return load(key, cached, loader, leaseEnabled);
+    }
+
+    /**
+     * Redis lease 없이 서버 안의 요청만 합친다. (Redis 장애로 캐시를 건너뛰는 중일 때 사용)
+     * @param key
+     * @param loader
+     * @return
+     */
+    public <T> T loadLocal(String key, Supplier<T> loader) {
+        return load(key, () -> null, loader, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(String key, Supplier<T> cached, Supplier<T> loader, boolean useLease) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return (T) await(key, running, loader);
+        }
+        try {
+            //직전에 다른 요청이 적재를 끝냈을 수 있어 한번 더 확인
+            T value = cached.get();
+            if (value == null) {
+                value = useLease ? loadWithLease(key, cached, loader) : loader.get();
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object await(String key, CompletableFuture<Object> running, Supplier<?> loader) {
+        try {
+            return running.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("캐시 적재 대기 실패, 직접 조회 key={}", key);
+        }
+        return loader.get();
+    }
+
+    private <T> T loadWithLease(String key, Supplier<T> cached, Supplier<T> loader) {
+        String lockKey = "LOCK:" + key;
+        String token = UUID.randomUUID().toString();
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, leaseDuration));
+        } catch (DataAccessException e) {
+            log.warn("캐시 lease 획득 실패, 직접 조회 key={}", key);
+            return loader.get();
+        }
+        if (acquired) {
+            try {
+                return loader.get();
+            } finally {
+                release(lockKey, token);
+            }
+        }
+        //다른 서버가 적재 중, 캐시가 채워지거나 lease 가 해제될 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(pollMillis);
+                T value = cached.get();
+                if (value != null) return value;
+                if (!isLeaseHeld(lockKey)) {
+                    //저장 직후 해제된 경우를 위해 한번 더 확인
+                    value = cached.get();
+                    if (value != null) return value;
+                    log.info("다른 서버가 캐시 저장 없이 적재를 끝냄, 직접 조회 key={}", key);
+                    return loader.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("다른 서버의 캐시 적재 대기 시간 초과, 직접 조회 key={}", key);
+        return loader.get();
+    }
+
+    /**
+     * 다른 서버가 아직 lease 를 잡고 있는지 확인, 확인에 실패하면 더 기다리지 않도록 false
+     * @param lockKey
+     * @return
+     */
+    private boolean isLeaseHeld(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
+        } catch (DataAccessException e) {
+            log.warn("캐시 lease 확인 실패 key={}", lockKey);
+            return false;
+        }
+    }
+
+    /**
+     * 자신이 잡은 lease 만 해제 (lease 가 만료되어 다른 서버가 잡은 경우는 건드리지 않음)
+     * @param lockKey
+     * @param token
+     */
+    private void release(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (DataAccessException e) {
+            log.warn("캐시 lease 해제 실패 key={}", lockKey);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package backend.synGo.config.scheduler;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.OptionalLong;
+
+/**
+ * 달력 조회 결과와 그 결과를 만든 시점의 버전
+ * 캐시에서 읽었으면 캐시에 함께 저장된 버전, DB 에서 읽었으면 조회 전에 읽은 버전이다.
+ * 응답 ETag 를 이 버전으로 만들어야 새 버전의 ETag 가 이전 데이터와 함께 나가지 않는다.
+ * @param <T>
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public final class Versioned<T> {
+
+    private final T value;
+    // 버전을 알 수 없으면 empty (ETag 없이 응답)
+    private final OptionalLong version;
+}
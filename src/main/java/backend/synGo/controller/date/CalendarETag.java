@@ -0,0 +1,55 @@
+package backend.synGo.controller.date;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.OptionalLong;
+
+/**
+ * 달력 조회 api의 버전 기반 ETag
+ * 버전은 캐시 삭제(evict) 시마다 증가하므로 버전이 같으면 데이터 조회 없이 304를 반환한다.
+ */
+final class CalendarETag {
+
+    private CalendarETag() {
+    }
+
+    /**
+     * @param prefix
+     * @param version Redis 장애로 버전을 알 수 없으면 empty
+     * @return 버전을 알 수 없으면 null (ETag 없이 응답)
+     */
+    static String of(String prefix, OptionalLong version) {
+        if (version.isEmpty()) return null;
+        return "\"" + prefix + "-" + version.getAsLong() + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 ETag가 포함되어 있는지 확인, ETag 가 없으면 항상 false
+     * @param ifNoneMatch
+     * @param eTag
+     * @return
+     */
+    static boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (eTag == null || ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(eTag) || tag.equals("*")) return true;
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    static ResponseEntity.BodyBuilder ok(String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+}
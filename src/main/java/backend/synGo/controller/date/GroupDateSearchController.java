@@ -1,12 +1,15 @@
 package backend.synGo.controller.date;
 
 import backend.synGo.auth.form.CustomUserDetails;
+import backend.synGo.config.scheduler.Versioned;
 import backend.synGo.domain.slot.SlotImportance;
 import backend.synGo.exception.AccessDeniedException;
 import backend.synGo.form.DateDtoForDay;
 import backend.synGo.form.DateDtoForMonth;
 import backend.synGo.form.GroupDateInfo;
 import backend.synGo.form.ResponseForm;
+import backend.synGo.form.responseForm.FreeBusyResponseForm;
+import backend.synGo.service.date.freebusy.FreeBusyService;
 import backend.synGo.service.date.group.DateInGroupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +19,8 @@ import jakarta.validation.constraints.Min;
 import lombok.*;
 ;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,8 +29,10 @@ import org.springframework.web.bind.annotation.*;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 
 import static backend.synGo.controller.date.UserDataDateSearchController.*;
 import static backend.synGo.service.GroupSlotService.*;
@@ -37,6 +44,7 @@ import static backend.synGo.service.GroupSlotService.*;
 public class GroupDateSearchController {
 
     private final DateInGroupService dateService;
+    private final FreeBusyService freeBusyService;
 
     @Operation(summary = "그룹 슬롯 한달 데이터 조회 api", description = "그룹 date를 한달 간격으로 조회하는 api")
     @ApiResponses(value = {
@@ -48,6 +56,7 @@ public class GroupDateSearchController {
             @PathVariable Long groupId,
             @RequestParam(required = false) @Min(2000) @Max(2100) Integer year,
             @RequestParam(required = false) @Min(1) @Max(12) Integer month,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         LocalDate now = LocalDate.now();
         int requestYear = (year != null) ? year : now.getYear();
@@ -55,13 +64,59 @@ public class GroupDateSearchController {
 
         try {
             log.info("date={},{}", requestYear, requestMonth);
-            List<DateDtoForMonth> dates = dateService.getDatesForMonthInGroup(groupId, requestYear, requestMonth, userDetails.getUserId());
+            //그룹원 확인 후 버전이 같으면 데이터 조회 없이 304
+            dateService.checkGroupMember(groupId, userDetails.getUserId());
+            OptionalLong version = dateService.getGroupMonthVersion(groupId, requestYear, requestMonth);
+            String eTag = CalendarETag.of("group", version);
+            if (CalendarETag.isNotModified(ifNoneMatch, eTag)) return CalendarETag.notModified(eTag);
+            //ETag 는 응답하는 일정과 함께 저장된 버전으로 만든다.
+            Versioned<List<DateDtoForMonth>> dates = dateService.getDatesForMonthInGroup(groupId, requestYear, requestMonth, userDetails.getUserId(), version);
+            return CalendarETag.ok(CalendarETag.of("group", dates.getVersion())).body(ResponseForm.success(dates.getValue(), "조회 성공"));
+        } catch (DateTimeException | AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "그룹 슬롯 여러 달 데이터 조회 api", description = "그룹 date를 from ~ to 월 범위(최대 12개월)로 한번에 조회하는 api")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "그룹 여러 달 date,slot 조회 성공"),
+            @ApiResponse(responseCode = "406", description = "잘못된 유저 요청 또는 조회 범위"),
+    })
+    @GetMapping("/{groupId}/date/range")
+    public ResponseEntity<ResponseForm<?>> getGroupRangeDateData(
+            @PathVariable Long groupId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            log.info("range={}~{}", from, to);
+            List<DateDtoForMonth> dates = dateService.getGroupDatesForRange(groupId, from, to, userDetails.getUserId());
             return ResponseEntity.ok(ResponseForm.success(dates, "조회 성공"));
         } catch (DateTimeException | AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
         }
     }
 
+    @Operation(summary = "그룹 free/busy 조회 api", description = "그룹 슬롯 중 from ~ to(최대 3개월)와 겹치는 슬롯, 바쁜 시간, 빈 시간을 조회하는 api")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "그룹 free/busy 조회 성공"),
+            @ApiResponse(responseCode = "406", description = "잘못된 유저 요청 또는 조회 범위"),
+    })
+    @GetMapping("/{groupId}/free-busy")
+    public ResponseEntity<ResponseForm<?>> getGroupFreeBusy(
+            @PathVariable Long groupId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            log.info("free-busy={}~{}", from, to);
+            FreeBusyResponseForm freeBusy = freeBusyService.getGroupFreeBusy(groupId, from, to, userDetails.getUserId());
+            return ResponseEntity.ok(ResponseForm.success(freeBusy, "조회 성공"));
+        } catch (DateTimeException | AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
+        }
+    }
+
     @Operation(summary = "그룹 슬롯 하루 데이터 조회 api", description = "그룹 date를 하루 간격으로 조회하는 api")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "그룹 하루 date,slot 조회 성공"),
@@ -73,6 +128,7 @@ public class GroupDateSearchController {
             @RequestParam(required = false) @Min(2000) @Max(2100) Integer year,
             @RequestParam(required = false) @Min(1) @Max(12) Integer month,
             @RequestParam(required = false) @Min(1) @Max(31) Integer day,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         LocalDate now = LocalDate.now();
         int requestYear = (year != null) ? year : now.getYear();
@@ -81,8 +137,15 @@ public class GroupDateSearchController {
 
         try {
             log.info("date={},{}", requestYear, requestMonth);
-            DateDtoForDay dates = dateService.findGroupDataByDayInGroup(groupId, requestYear, requestMonth, requestDay, userDetails.getUserId());
-            return ResponseEntity.ok(ResponseForm.success(dates, "조회 성공"));
+            //날짜, 그룹원 확인 후 버전이 같으면 데이터 조회 없이 304
+            LocalDate.of(requestYear, requestMonth, requestDay);
+            dateService.checkGroupMember(groupId, userDetails.getUserId());
+            OptionalLong version = dateService.getGroupMonthVersion(groupId, requestYear, requestMonth);
+            String eTag = CalendarETag.of("group", version);
+            if (CalendarETag.isNotModified(ifNoneMatch, eTag)) return CalendarETag.notModified(eTag);
+            //하루 캐시는 버전별 key 에 있으므로 같은 버전의 일정만 응답한다.
+            DateDtoForDay dates = dateService.findGroupDataByDayInGroup(groupId, requestYear, requestMonth, requestDay, userDetails.getUserId(), version);
+            return CalendarETag.ok(eTag).body(ResponseForm.success(dates, "조회 성공"));
         } catch (DateTimeException | AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
         }
@@ -1,10 +1,14 @@
 package backend.synGo.controller.date;
 
 import backend.synGo.auth.form.CustomUserDetails;
+import backend.synGo.config.scheduler.Versioned;
 import backend.synGo.exception.AccessDeniedException;
 import backend.synGo.form.DateDtoForDay;
 import backend.synGo.form.DateDtoForMonth;
 import backend.synGo.form.ResponseForm;
+import backend.synGo.form.SlotDtoForDay;
+import backend.synGo.form.responseForm.FreeBusyResponseForm;
+import backend.synGo.service.date.freebusy.FreeBusyService;
 import backend.synGo.service.date.user.DateUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +17,8 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,7 +26,10 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.OptionalLong;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +38,7 @@ import java.util.List;
 public class UserDataDateSearchController {
 
     private final DateUserService dateService;
+    private final FreeBusyService freeBusyService;
 
     @Operation(summary = "개인 월 슬롯 데이터 조회 api", description = "개인 date를 한달 간격으로 조회하는 api")
     @ApiResponses(value = {
@@ -39,6 +49,7 @@ public class UserDataDateSearchController {
     public ResponseEntity<ResponseForm<?>> getUserDataForMonth(
             @RequestParam(required = false) @Min(2000) @Max(2100) Integer year,
             @RequestParam(required = false) @Min(1) @Max(12) Integer month,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         LocalDate now = LocalDate.now();
         int requestYear = (year != null) ? year : now.getYear();
@@ -46,13 +57,78 @@ public class UserDataDateSearchController {
 
         try {
             log.info("date={},{}", requestYear, requestMonth);
-            List<DateDtoForMonth> dates = dateService.getUserDataDatesForMonth(requestYear, requestMonth, userDetails.getUserId());
-            return ResponseEntity.ok(ResponseForm.success(dates, "개인 데이터 조회 성공"));
+            //버전이 같으면 데이터 조회 없이 304 (버전은 요청자 본인의 것만 조회)
+            OptionalLong version = dateService.getUserMonthVersion(requestYear, requestMonth, userDetails.getUserId());
+            String eTag = CalendarETag.of("my", version);
+            if (CalendarETag.isNotModified(ifNoneMatch, eTag)) return CalendarETag.notModified(eTag);
+            //ETag 는 응답하는 일정과 함께 저장된 버전으로 만든다.
+            Versioned<List<DateDtoForMonth>> dates = dateService.getUserDataDatesForMonth(requestYear, requestMonth, userDetails.getUserId(), version);
+            return CalendarETag.ok(CalendarETag.of("my", dates.getVersion())).body(ResponseForm.success(dates.getValue(), "개인 데이터 조회 성공"));
         } catch (DateTimeException | AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
         }
     }
 
+    @Operation(summary = "개인 여러 달 슬롯 데이터 조회 api", description = "개인 date를 from ~ to 월 범위(최대 12개월)로 한번에 조회하는 api")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "여러 달 date,slot 조회 성공"),
+            @ApiResponse(responseCode = "406", description = "잘못된 조회 범위"),
+    })
+    @GetMapping("/date/range")
+    public ResponseEntity<ResponseForm<?>> getUserDataForRange(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            log.info("range={}~{}", from, to);
+            List<DateDtoForMonth> dates = dateService.getUserDataDatesForRange(from, to, userDetails.getUserId());
+            return ResponseEntity.ok(ResponseForm.success(dates, "개인 데이터 조회 성공"));
+        } catch (DateTimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "개인 + 그룹 agenda 조회 api", description = "개인 슬롯과 속한 그룹의 슬롯을 시작 시간 순으로 병합해 조회하는 api, to를 생략하면 from 이후 다음 limit 개 일정을 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "agenda 조회 성공"),
+            @ApiResponse(responseCode = "406", description = "잘못된 조회 범위"),
+    })
+    @GetMapping("/agenda")
+    public ResponseEntity<ResponseForm<?>> getAgenda(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        LocalDateTime requestFrom = (from != null) ? from : LocalDateTime.now();
+
+        try {
+            log.info("agenda={}~{}, limit={}", requestFrom, to, limit);
+            List<SlotDtoForDay> agenda = dateService.getAgenda(requestFrom, to, limit, userDetails.getUserId());
+            return ResponseEntity.ok(ResponseForm.success(agenda, "agenda 조회 성공"));
+        } catch (DateTimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "개인 free/busy 조회 api", description = "개인 슬롯과 속한 그룹 슬롯 중 from ~ to(최대 3개월)와 겹치는 슬롯, 바쁜 시간, 빈 시간을 조회하는 api")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "free/busy 조회 성공"),
+            @ApiResponse(responseCode = "406", description = "잘못된 조회 범위"),
+    })
+    @GetMapping("/free-busy")
+    public ResponseEntity<ResponseForm<?>> getFreeBusy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            log.info("free-busy={}~{}", from, to);
+            FreeBusyResponseForm freeBusy = freeBusyService.getMyFreeBusy(from, to, userDetails.getUserId());
+            return ResponseEntity.ok(ResponseForm.success(freeBusy, "free/busy 조회 성공"));
+        } catch (DateTimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
+        }
+    }
+
     @Operation(summary = "개인 월 그룹 슬롯 데이터 조회 api", description = "그룹에 개인이 속하면서 개인이 할당된 date를 한달 간격으로 조회하는 api")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "한달 date,slot 조회 성공"),
@@ -86,6 +162,7 @@ public class UserDataDateSearchController {
             @RequestParam(required = false) @Min(2000) @Max(2100) Integer year,
             @RequestParam(required = false) @Min(1) @Max(12) Integer month,
             @RequestParam(required = false) @Min(1) @Max(31) Integer day,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         LocalDate now = LocalDate.now();
         int requestYear = (year != null) ? year : now.getYear();
@@ -94,8 +171,12 @@ public class UserDataDateSearchController {
 
         try {
             log.info("date={},{}", requestYear, requestMonth);
+            //날짜 확인 후 버전이 같으면 데이터 조회 없이 304 (버전은 요청자 본인의 것만 조회)
+            LocalDate.of(requestYear, requestMonth, requestDay);
+            String eTag = CalendarETag.of("my", dateService.getUserMonthVersion(requestYear, requestMonth, userDetails.getUserId()));
+            if (CalendarETag.isNotModified(ifNoneMatch, eTag)) return CalendarETag.notModified(eTag);
             DateDtoForDay dates = dateService.getUserDataDatesForDay(requestYear, requestMonth, requestDay, userDetails.getUserId());
-            return ResponseEntity.ok(ResponseForm.success(dates, "조회 성공"));
+            return CalendarETag.ok(eTag).body(ResponseForm.success(dates, "조회 성공"));
         } catch (DateTimeException | AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
         }
@@ -30,6 +30,9 @@ import java.util.List;
 @RequestMapping("/api/groups")
 public class GroupBasicController {
 
+    //한 번에 조회할 수 있는 최대 그룹 수
+    private static final int MAX_GROUP_PAGE_SIZE = 100;
+
     private final GroupService groupService;
 
     @Operation(summary = "기본 group 생성 api", description = "그룹을 생성하고 기본 스케줄러까지 생성하는 api")
@@ -49,23 +52,36 @@ public class GroupBasicController {
         }
     }
 
-    @Operation(summary = "모든 group 정보 요청 api", description = "그룹 정보를 Pageable로 요청하는 api")
+    @Operation(summary = "모든 group 정보 요청 api", description = "그룹 정보를 Pageable로 요청하는 api, cursor를 전달하면 커서 페이징으로 요청")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "그룹 데이터 요청 성공"),
-            @ApiResponse(responseCode = "200", description = "그룹 데이터 없음")
+            @ApiResponse(responseCode = "200", description = "그룹 데이터 없음"),
+            @ApiResponse(responseCode = "406", description = "잘못된 커서 또는 size")
     })
     @GetMapping
     public ResponseEntity<ResponseForm<?>> getAllGroup(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "id") String sort,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String cursor) {
+        if (size < 1) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, "size 는 1 이상이어야 합니다"));
+        }
+        //최대 size 제한
+        size = Math.min(size, MAX_GROUP_PAGE_SIZE);
         try {
+            //커서 페이징
+            if (cursor != null) {
+                return ResponseEntity.status(HttpStatus.OK).body(ResponseForm.success(groupService.findGroups(cursor, size), "정보 요청 성공"));
+            }
             //Pageable 객체 생성
             Pageable pageable = PageRequest.of(page, size, Sort.by(sort).ascending());
             return ResponseEntity.status(HttpStatus.OK).body(ResponseForm.success(groupService.findGroups(pageable), "정보 요청 성공"));
         } catch (NotFoundContentsException e) {
             ResponseForm<AllGroupDataResponse> body = ResponseForm.notFoundResponse(new AllGroupDataResponse(), "데이터 없음");
             return ResponseEntity.status(HttpStatus.OK).body(body);
+        } catch (NotValidException e) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
         }
     }
 
@@ -147,6 +163,8 @@ public class GroupBasicController {
         private int numberOfElements;
         private int size;
         private boolean isLast;
+        //다음 페이지 커서, 마지막 페이지인 경우 null
+        private String nextCursor;
     }
 
     @Data
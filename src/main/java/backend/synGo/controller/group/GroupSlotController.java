@@ -8,10 +8,12 @@ import backend.synGo.exception.NotFoundContentsException;
 import backend.synGo.exception.NotFoundUserException;
 import backend.synGo.exception.NotValidException;
 import backend.synGo.form.ResponseForm;
+import backend.synGo.form.TimeRangeDto;
 import backend.synGo.form.requestForm.SlotForm;
 import backend.synGo.form.responseForm.SlotResponseForm;
 import backend.synGo.form.responseForm.SlotIdResponse;
 import backend.synGo.service.GroupSlotService;
+import backend.synGo.service.date.freebusy.FreeBusyService;
 import backend.synGo.util.DateTimeRange;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,12 +22,14 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +44,7 @@ import static backend.synGo.form.responseForm.SlotResponseForm.*;
 public class GroupSlotController {
 
     private final GroupSlotService groupSlotService;
+    private final FreeBusyService freeBusyService;
 
     @Operation(summary = "그룹 슬롯 등록 api", description = "특정 그룹에서 슬롯을 등록하는 api")
     @ApiResponses(value = {
@@ -142,6 +147,26 @@ public class GroupSlotController {
         }
     }
 
+    @Operation(summary = "그룹 공통 빈 시간 조회 api", description = "그룹원 모두가 비어있는 시간 중 duration(분) 이상 이어지는 후보 구간을 15분 단위로 조회하는 api")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "공통 빈 시간 조회 성공"),
+            @ApiResponse(responseCode = "406", description = "잘못된 유저 요청 또는 조회 범위")
+    })
+    @GetMapping("/{groupId}/availability")
+    public ResponseEntity<ResponseForm<?>> getCommonAvailability(
+            @PathVariable Long groupId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "60") int duration,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            List<TimeRangeDto> windows = freeBusyService.findCommonAvailability(groupId, from, to, duration, userDetails.getUserId());
+            return ResponseEntity.ok().body(ResponseForm.success(windows, "공통 빈 시간 조회 성공"));
+        } catch (AccessDeniedException | DateTimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(ResponseForm.notAcceptResponse(null, e.getMessage()));
+        }
+    }
+
     @Data
     public static class SlotUpdateForm {
         @NotBlank
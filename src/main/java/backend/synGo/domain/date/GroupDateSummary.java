@@ -0,0 +1,73 @@
+package backend.synGo.domain.date;
+
+import backend.synGo.domain.slot.GroupSlot;
+import backend.synGo.domain.slot.SlotImportance;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 그룹 한달 뷰를 위한 날짜별 요약 테이블
+ * 슬롯 생성/수정/삭제 시 같은 트랜잭션 안에서 슬롯 수와 중요도 상위 2개 슬롯 정보를 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "group_date_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_group_date_summary_group_day", columnNames = {"group_id", "start_date"}))
+public class GroupDateSummary {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "group_date_summary_id")
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+    private int slotCount;
+
+    private Long firstSlotId;
+    private String firstTitle;
+    private LocalDateTime firstStartTime;
+    @Enumerated(EnumType.STRING)
+    private SlotImportance firstImportance;
+
+    private Long secondSlotId;
+    private String secondTitle;
+    private LocalDateTime secondStartTime;
+    @Enumerated(EnumType.STRING)
+    private SlotImportance secondImportance;
+
+    public GroupDateSummary(Long groupId, LocalDate startDate) {
+        this.groupId = groupId;
+        this.startDate = startDate;
+        this.slotCount = 0;
+    }
+
+    /**
+     * 슬롯 수와 상위 슬롯(중요도 순, 최대 2개)으로 요약 갱신
+     * @param slotCount
+     * @param topSlots
+     */
+    public void refresh(int slotCount, List<GroupSlot> topSlots) {
+        this.slotCount = slotCount;
+        GroupSlot first = topSlots.size() > 0 ? topSlots.get(0) : null;
+        GroupSlot second = topSlots.size() > 1 ? topSlots.get(1) : null;
+
+        this.firstSlotId = first != null ? first.getId() : null;
+        this.firstTitle = first != null ? first.getTitle() : null;
+        this.firstStartTime = first != null ? first.getStartTime() : null;
+        this.firstImportance = first != null ? first.getImportance() : null;
+
+        this.secondSlotId = second != null ? second.getId() : null;
+        this.secondTitle = second != null ? second.getTitle() : null;
+        this.secondStartTime = second != null ? second.getStartTime() : null;
+        this.secondImportance = second != null ? second.getImportance() : null;
+    }
+}
@@ -18,7 +18,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity(name = "GroupBasic")
-@Table(name = "group_basic")
+@Table(name = "group_basic", indexes = @Index(name = "idx_group_basic_create_date_id", columnList = "create_date, group_id"))
 public class Group {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
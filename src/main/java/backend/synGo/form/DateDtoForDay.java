@@ -2,20 +2,35 @@ package backend.synGo.form;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 하루 뷰, 그룹 하루 캐시(L1)에 보관할 때는 toUnmodifiable 로 바꿀 수 없는 복사본을 만든다.
+ */
 @Builder
+@Jacksonized
 @AllArgsConstructor
-@NoArgsConstructor
-@Data
+@Getter
+@ToString
+@EqualsAndHashCode
 public class DateDtoForDay {
-    int slotCount;
-    LocalDate today;
+    private final int slotCount;
+    private final LocalDate today;
     @Builder.Default
-    List<SlotDtoForDay> slotInfo = new ArrayList<>();
-}
\ No newline at end of file
+    private final List<SlotDtoForDay> slotInfo = new ArrayList<>();
+
+    /**
+     * slotInfo 까지 바꿀 수 없는 복사본, SlotDtoForDay 는 불변이므로 공유한다.
+     * @return
+     */
+    public DateDtoForDay toUnmodifiable() {
+        return new DateDtoForDay(slotCount, today, slotInfo == null ? List.of() : List.copyOf(slotInfo));
+    }
+}
@@ -2,20 +2,36 @@ package backend.synGo.form;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
-@Data
+/**
+ * 한달 뷰의 하루 요약
+ * DB 조회 중에는 slotInfo 에 슬롯을 추가하며 만들고, 캐시에 보관할 때는 toUnmodifiable 로 바꿀 수 없는 복사본을 만든다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
 @AllArgsConstructor
 @Builder
-@NoArgsConstructor
+@Jacksonized
 public class DateDtoForMonth {
-    int slotCount;
-    LocalDate today;
+    private final int slotCount;
+    private final LocalDate today;
     @Builder.Default
-    List<SlotDtoForMonth> slotInfo = new ArrayList<>();
+    private final List<SlotDtoForMonth> slotInfo = new ArrayList<>();
+
+    /**
+     * slotInfo 까지 바꿀 수 없는 복사본, SlotDtoForMonth 는 불변이므로 공유한다.
+     * @return
+     */
+    public DateDtoForMonth toUnmodifiable() {
+        return new DateDtoForMonth(slotCount, today, slotInfo == null ? List.of() : List.copyOf(slotInfo));
+    }
 }
@@ -0,0 +1,42 @@
+package backend.synGo.form;
+
+import backend.synGo.exception.NotValidException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 그룹 목록 커서 페이징의 마지막 위치 (createDate, groupId)
+ * 클라이언트에는 내용을 알 수 없는 Base64 토큰으로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class GroupsPagingCursor {
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createDate;
+    private Long groupId;
+
+    public static GroupsPagingCursor from(GroupsPagingForm lastForm) {
+        return new GroupsPagingCursor(lastForm.getCreateDate(), lastForm.getGroupId());
+    }
+
+    public String encode() {
+        String raw = createDate + DELIMITER + groupId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GroupsPagingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new GroupsPagingCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new NotValidException("잘못된 커서 입니다");
+        }
+    }
+}
@@ -5,23 +5,29 @@ import jakarta.annotation.Nullable;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import lombok.*;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
+/**
+ * 하루 뷰의 슬롯, 그룹 하루 캐시(L1)에 그대로 보관되므로 만든 뒤 바꿀 수 없다.
+ */
 @Builder
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Jacksonized
 @AllArgsConstructor
-@Data
+@Getter
+@ToString
+@EqualsAndHashCode
 public class SlotDtoForDay {
-    Long groupId;
-    Long slotId;
-    String title;
-    LocalDateTime startTime;
-    LocalDateTime endTime;
+    private final Long groupId;
+    private final Long slotId;
+    private final String title;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
     @Enumerated(EnumType.STRING)
-    SlotImportance importance;
+    private final SlotImportance importance;
     @Nullable
-    Long userGroupId;
+    private final Long userGroupId;
     @Nullable
-    String editorNickname;
+    private final String editorNickname;
 }
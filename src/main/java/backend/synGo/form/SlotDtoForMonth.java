@@ -3,19 +3,26 @@ package backend.synGo.form;
 import backend.synGo.domain.slot.SlotImportance;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
-@Data
+/**
+ * 한달 뷰의 슬롯 요약, 로컬 캐시에 그대로 보관되므로 만든 뒤 바꿀 수 없다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
 @AllArgsConstructor
-@NoArgsConstructor
 @Builder
+@Jacksonized
 public class SlotDtoForMonth {
-    Long groupId;
-    Long slotId;
-    String title;
-    LocalDateTime startTime;
-    SlotImportance importance;
+    private final Long groupId;
+    private final Long slotId;
+    private final String title;
+    private final LocalDateTime startTime;
+    private final SlotImportance importance;
 }
@@ -0,0 +1,20 @@
+package backend.synGo.form;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SlotIntervalDto {
+    Long groupId;
+    Long slotId;
+    String title;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+}
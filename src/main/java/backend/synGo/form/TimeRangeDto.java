@@ -0,0 +1,15 @@
+package backend.synGo.form;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeRangeDto {
+    LocalDateTime start;
+    LocalDateTime end;
+}
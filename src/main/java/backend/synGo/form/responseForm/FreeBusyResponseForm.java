@@ -0,0 +1,30 @@
+package backend.synGo.form.responseForm;
+
+import backend.synGo.form.SlotIntervalDto;
+import backend.synGo.form.TimeRangeDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FreeBusyResponseForm {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    // 조회 범위와 겹치는 슬롯 (시작 시간 순)
+    @Builder.Default
+    private List<SlotIntervalDto> slots = new ArrayList<>();
+    // 겹치는 슬롯을 합친 바쁜 시간 (조회 범위로 잘림)
+    @Builder.Default
+    private List<TimeRangeDto> busy = new ArrayList<>();
+    // 조회 범위 안의 빈 시간
+    @Builder.Default
+    private List<TimeRangeDto> free = new ArrayList<>();
+}
@@ -3,6 +3,7 @@ package backend.synGo.repository;
 import backend.synGo.domain.date.Date;
 import backend.synGo.domain.user.User;
 import backend.synGo.repository.query.DateRepositoryQuery;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,18 +21,13 @@ public interface DateRepository extends JpaRepository<Date, Long>, DateRepositor
     @Query("select d from ScheduleDate d join fetch d.groupSlot where d.group.id=:groupId AND d.startDate=:startDate")
     Optional<Date> findDateAndGroupSlotByStartDateAndUserId(@Param("startDate") LocalDate startDate,@Param("groupId") Long groupId);
 
-    @Query("select d from ScheduleDate d join fetch d.groupSlot gs where d.group.id =:groupId and d.startDate >=:startDate and d.startDate <:endDate")
-    List<Date> findScheduleDateWithSlotsByGroupAndMonthRange(
-            @Param("groupId") Long groupId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
+    @Query("select d.id from ScheduleDate d where d.group is not null and d.id >:lastId" +
+            " and not exists (select s.id from GroupDateSummary s where s.groupId = d.group.id and s.startDate = d.startDate)" +
+            " order by d.id")
+    List<Long> findGroupDateIdsWithoutSummaryAfter(@Param("lastId") Long lastId, Pageable pageable);
 
-    @Query("select d from ScheduleDate d where d.group.id=:groupId and d.startDate=:day")
-    Optional<Date> findByGroupIdAndDay(@Param("groupId") Long groupId, @Param("day") LocalDate day);
-
-    @Query("select d from ScheduleDate d join fetch d.userSlot us where d.user.id=:userId and d.startDate >=:startDate and d.startDate <:endDate")
-    List<Date> findAllUserDataByMonthRange(Long userId, LocalDate startDate, LocalDate endDate);
+    @Query("select distinct d from ScheduleDate d join fetch d.groupSlot gs where d.id in :dateIds")
+    List<Date> findGroupDateWithSlotsByIds(@Param("dateIds") List<Long> dateIds);
 
     @Query("select d from ScheduleDate d join fetch d.userSlot us where d.user.id=:userId and d.startDate=:day")
     Optional<Date> findUserDateByDay(@Param("userId") Long userId, @Param("day") LocalDate day);
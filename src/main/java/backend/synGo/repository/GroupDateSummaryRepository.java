@@ -0,0 +1,27 @@
+package backend.synGo.repository;
+
+import backend.synGo.domain.date.GroupDateSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface GroupDateSummaryRepository extends JpaRepository<GroupDateSummary, Long> {
+
+    Optional<GroupDateSummary> findByGroupIdAndStartDate(Long groupId, LocalDate startDate);
+
+    @Query("select s from GroupDateSummary s where s.groupId=:groupId and s.startDate >=:startDate and s.startDate <:endDate order by s.startDate")
+    List<GroupDateSummary> findByGroupIdAndMonthRange(
+            @Param("groupId") Long groupId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying
+    @Query("delete from GroupDateSummary s where s.groupId=:groupId and s.startDate=:startDate")
+    void deleteByGroupIdAndStartDate(@Param("groupId") Long groupId, @Param("startDate") LocalDate startDate);
+}
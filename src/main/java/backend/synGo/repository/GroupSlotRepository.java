@@ -19,9 +19,6 @@ public interface GroupSlotRepository extends JpaRepository<GroupSlot, Long>, Gro
     @Query("select gs from GroupSlot gs left join fetch gs.slotMember sm where gs.id=:slotId")
     Optional<GroupSlot> joinSlotMemberBySlotId(@Param("slotId") Long slotId);
 
-    @Query("select gs from GroupSlot gs join fetch gs.status s where gs.date.id in :dateIds")
-    List<GroupSlot> findByDateIdIn(@Param("dateIds") List<Long> dateIds);
-
     @Query("select gs from GroupSlot gs join fetch gs.date d where gs.id = :slotId")
     Optional<GroupSlot> findSlotWithDateBySlotId(Long slotId);
 }
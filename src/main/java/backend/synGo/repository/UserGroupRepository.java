@@ -34,8 +34,14 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
     @Query("update UserGroup ug set ug.role = :role where ug.id in :targetIds")
     void bulkUpdateUserGroupRoles(@Param("targetIds") List<Long> targetIds, @Param("role") Role role);
 
-    @Query("select ug from UserGroup ug join fetch ug.group g join fetch g.date d where ug.user.id=:userId And d.startDate >=:startDate and d.startDate <:endDate")
-    List<UserGroup> findUserGroupDataByUserIdForMonth(Long userId, LocalDate startDate, LocalDate endDate);
+    @Query("select ug.group.id from UserGroup ug where ug.user.id=:userId")
+    List<Long> findGroupIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select ug.user.id from UserGroup ug where ug.group.id=:groupId")
+    List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
+    @Query("select distinct other.group.id from UserGroup member join UserGroup other on other.user.id = member.user.id where member.group.id=:groupId")
+    List<Long> findMembersGroupIdsByGroupId(@Param("groupId") Long groupId);
 
     @Query("select ug from UserGroup ug join fetch ug.group g join fetch g.date d where ug.user.id=:userId And d.startDate=:startDate")
     List<UserGroup> findUserDataByUserIdForDay(Long userId, LocalDate startDate);
@@ -1,4 +1,23 @@
 package backend.synGo.repository.query;
 
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotIntervalDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 public interface DateRepositoryQuery {
+    // 개인 date 별 중요도 상위 2개 슬롯 요청 query
+    List<DateDtoForMonth> findUserMonthTop2(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 유저가 속한 모든 그룹의 date 별 중요도 상위 2개 슬롯 요청 query
+    List<DateDtoForMonth> findUserGroupsMonthTop2(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 여러 유저의 [from, to) 와 겹치는 개인 슬롯의 시작, 종료 시간 요청 query (userId 별)
+    Map<Long, List<SlotIntervalDto>> findUserSlotIntervals(List<Long> userIds, LocalDateTime from, LocalDateTime to);
+
+    // 여러 그룹의 [from, to) 와 겹치는 그룹 슬롯의 시작, 종료 시간 요청 query (groupId 별)
+    Map<Long, List<SlotIntervalDto>> findGroupSlotIntervals(List<Long> groupIds, LocalDateTime from, LocalDateTime to);
 }
@@ -1,10 +1,16 @@
 package backend.synGo.repository.query;
 
+import backend.synGo.form.GroupsPagingCursor;
 import backend.synGo.form.GroupsPagingForm;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
 public interface GroupRepositoryQuery {
 
     Slice<GroupsPagingForm> findAllGroupForSlice(Pageable pageable);
+
+    // (createDate, groupId) 커서 이후 그룹 size + 1 개 요청 query
+    List<GroupsPagingForm> findAllGroupAfterCursor(GroupsPagingCursor cursor, int size);
 }
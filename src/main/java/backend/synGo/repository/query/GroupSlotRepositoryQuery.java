@@ -1,14 +1,23 @@
 package backend.synGo.repository.query;
 
+import backend.synGo.form.DateDtoForDay;
 import backend.synGo.form.SlotDtoForDay;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface GroupSlotRepositoryQuery {
     // 그룹 내 하루 슬롯 데이터 정보 요청 query
-    List<SlotDtoForDay> findByGroupIdAndDay(Long dateId);
     List<SlotDtoForDay> findDateAndSlotByGroupIdAndDay(Long dateId);
 
     // 개인의 하루 그룹 slot 데이터 정보 요청 query
     List<SlotDtoForDay> findWithMemberAndUserGroupByDateIdIn(List<Long> dateIds);
+
+    // 그룹원 확인과 하루 slot 데이터 정보를 한번에 요청 query, 그룹원이 아니면 empty
+    Optional<DateDtoForDay> findDayViewByMember(Long groupId, Long userId, LocalDate day);
+
+    // 여러 그룹의 (afterTime, afterSlotId) 이후 그룹 슬롯을 (시작 시간, id) 순으로 size 개 요청 query
+    List<SlotDtoForDay> findGroupSlotsAfter(List<Long> groupIds, LocalDateTime afterTime, Long afterSlotId, LocalDateTime endTime, int size);
 }
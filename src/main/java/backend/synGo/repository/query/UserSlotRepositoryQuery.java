@@ -2,9 +2,13 @@ package backend.synGo.repository.query;
 
 import backend.synGo.form.SlotDtoForDay;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface UserSlotRepositoryQuery {
 
     List<SlotDtoForDay> findByUserIdAndDay(Long dateId);
+
+    // (afterTime, afterSlotId) 이후 개인 슬롯을 시작 시간 순으로 size 개 요청 query
+    List<SlotDtoForDay> findUserSlotsAfter(Long userId, LocalDateTime afterTime, Long afterSlotId, LocalDateTime endTime, int size);
 }
@@ -1,6 +1,242 @@
 package backend.synGo.repository.query.impl;
 
+import backend.synGo.domain.slot.SlotImportance;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForMonth;
+import backend.synGo.form.SlotIntervalDto;
 import backend.synGo.repository.query.DateRepositoryQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Repository
+@RequiredArgsConstructor
 public class DateRepositoryQueryImpl implements DateRepositoryQuery {
+
+    private final EntityManager em;
+
+    // user_slot.importance는 enum 이름으로 저장되므로 priority로 변환해 정렬
+    private static final String userImportancePriority = buildImportancePriority("us.importance");
+
+    private static final String userTop2Query = "select t.date_id, t.start_date, t.slot_count, t.slot_id, t.title, t.start_time, t.importance " +
+            "from (" +
+            "select d.date_id, d.start_date, d.slot_count, us.user_slot_id as slot_id, us.title, us.start_time, us.importance, " +
+            "row_number() over (partition by d.date_id order by " + userImportancePriority + " desc, us.user_slot_id) as rn " +
+            "from schedule_date d " +
+            "join user_slot us on us.date_id = d.date_id " +
+            "where d.user_id = :userId and d.start_date >= :startDate and d.start_date < :endDate" +
+            ") t " +
+            "where t.rn <= 2 " +
+            "order by t.start_date, t.date_id, t.rn";
+
+    // 유저가 속한 그룹 조건을 같은 쿼리 안에서 처리, group_slot.importance는 ordinal로 저장되므로 값 그대로 정렬
+    private static final String userGroupsTop2Query = buildGroupTop2Query(
+            "d.group_id in (select ug.group_id from user_group ug where ug.user_id = :userId)");
+
+    /**
+     * 개인 date 별 중요도 상위 2개 슬롯만 조회
+     * @param userId
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<DateDtoForMonth> findUserMonthTop2(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<Object[]> rows = createUserTop2Query(userId, startDate, endDate).getResultList();
+        List<DateDtoForMonth> result = new ArrayList<>();
+        emitUserTop2(rows.stream(), result::add);
+        return result;
+    }
+
+    private NativeQuery<Object[]> createUserTop2Query(Long userId, LocalDate startDate, LocalDate endDate) {
+        return (NativeQuery<Object[]>) em.createNativeQuery(userTop2Query)
+                .unwrap(NativeQuery.class)
+                .addScalar("date_id", Long.class)
+                .addScalar("start_date", LocalDate.class)
+                .addScalar("slot_count", Integer.class)
+                .addScalar("slot_id", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("start_time", LocalDateTime.class)
+                .addScalar("importance", String.class)
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate);
+    }
+
+    /**
+     * date_id 순으로 정렬된 row를 date 단위로 묶어 완성될 때마다 전달
+     * @param rows
+     * @param consumer
+     */
+    private static void emitUserTop2(Stream<Object[]> rows, Consumer<DateDtoForMonth> consumer) {
+        Long currentDateId = null;
+        DateDtoForMonth current = null;
+        Iterator<Object[]> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            Long dateId = (Long) row[0];
+            if (!dateId.equals(currentDateId)) {
+                if (current != null) consumer.accept(current);
+                currentDateId = dateId;
+                current = new DateDtoForMonth((Integer) row[2], (LocalDate) row[1], new ArrayList<>(2));
+            }
+            current.getSlotInfo().add(SlotDtoForMonth.builder()
+                    .slotId((Long) row[3])
+                    .title((String) row[4])
+                    .startTime((LocalDateTime) row[5])
+                    .importance(row[6] == null ? null : SlotImportance.valueOf((String) row[6]))
+                    .build());
+        }
+        if (current != null) consumer.accept(current);
+    }
+
+    /**
+     * 유저가 속한 모든 그룹의 date 별 중요도 상위 2개 슬롯을 한번에 조회
+     * 같은 날짜라도 그룹의 date 마다 하나씩 반환되며 날짜 순으로 정렬된다.
+     * @param userId
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    @Override
+    public List<DateDtoForMonth> findUserGroupsMonthTop2(Long userId, LocalDate startDate, LocalDate endDate) {
+        return getGroupTop2(em.createNativeQuery(userGroupsTop2Query)
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<DateDtoForMonth> getGroupTop2(Query query) {
+        List<Object[]> rows = query.unwrap(NativeQuery.class)
+                .addScalar("date_id", Long.class)
+                .addScalar("start_date", LocalDate.class)
+                .addScalar("slot_count", Integer.class)
+                .addScalar("group_id", Long.class)
+                .addScalar("slot_id", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("start_time", LocalDateTime.class)
+                .addScalar("importance", Integer.class)
+                .getResultList();
+
+        List<DateDtoForMonth> result = new ArrayList<>();
+        Long currentDateId = null;
+        DateDtoForMonth current = null;
+        for (Object[] row : rows) {
+            Long dateId = (Long) row[0];
+            if (!dateId.equals(currentDateId)) {
+                currentDateId = dateId;
+                current = new DateDtoForMonth((Integer) row[2], (LocalDate) row[1], new ArrayList<>(2));
+                result.add(current);
+            }
+            current.getSlotInfo().add(SlotDtoForMonth.builder()
+                    .groupId((Long) row[3])
+                    .slotId((Long) row[4])
+                    .title((String) row[5])
+                    .startTime((LocalDateTime) row[6])
+                    .importance(row[7] == null ? null : SlotImportance.values()[(Integer) row[7]])
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 여러 유저의 [from, to) 와 겹치는 개인 슬롯의 시작, 종료 시간을 한번에 조회 (interval index 구성용)
+     * 종료 시간이 없는 슬롯은 시작 시간이 구간 안에 있을 때만 포함한다.
+     * @param userIds
+     * @param from
+     * @param to
+     * @return userId 별 슬롯 구간
+     */
+    @Override
+    public Map<Long, List<SlotIntervalDto>> findUserSlotIntervals(List<Long> userIds, LocalDateTime from, LocalDateTime to) {
+        if (userIds.isEmpty()) return Collections.emptyMap();
+        List<Object[]> rows = em.createQuery("select d.user.id, us.id, us.title, us.startTime, us.endTime " +
+                        "from ScheduleDate d " +
+                        "join d.userSlot us " +
+                        "where d.user.id in :userIds " +
+                        "and d.startDate < :toDate " +
+                        "and us.startTime < :to and (us.endTime > :from or us.startTime >= :from)", Object[].class)
+                .setParameter("userIds", userIds)
+                .setParameter("toDate", to.toLocalDate().plusDays(1))
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+        return groupSlotIntervals(rows, false);
+    }
+
+    /**
+     * 여러 그룹의 [from, to) 와 겹치는 그룹 슬롯의 시작, 종료 시간을 한번에 조회 (interval index 구성용)
+     * 종료 시간이 없는 슬롯은 시작 시간이 구간 안에 있을 때만 포함한다.
+     * @param groupIds
+     * @param from
+     * @param to
+     * @return groupId 별 슬롯 구간
+     */
+    @Override
+    public Map<Long, List<SlotIntervalDto>> findGroupSlotIntervals(List<Long> groupIds, LocalDateTime from, LocalDateTime to) {
+        if (groupIds.isEmpty()) return Collections.emptyMap();
+        List<Object[]> rows = em.createQuery("select d.group.id, gs.id, gs.title, gs.startTime, gs.endTime " +
+                        "from ScheduleDate d " +
+                        "join d.groupSlot gs " +
+                        "where d.group.id in :groupIds " +
+                        "and d.startDate < :toDate " +
+                        "and gs.startTime < :to and (gs.endTime > :from or gs.startTime >= :from)", Object[].class)
+                .setParameter("groupIds", groupIds)
+                .setParameter("toDate", to.toLocalDate().plusDays(1))
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+        return groupSlotIntervals(rows, true);
+    }
+
+    private static Map<Long, List<SlotIntervalDto>> groupSlotIntervals(List<Object[]> rows, boolean isGroup) {
+        Map<Long, List<SlotIntervalDto>> result = new HashMap<>();
+        for (Object[] row : rows) {
+            Long ownerId = (Long) row[0];
+            result.computeIfAbsent(ownerId, id -> new ArrayList<>()).add(SlotIntervalDto.builder()
+                    .groupId(isGroup ? ownerId : null)
+                    .slotId((Long) row[1])
+                    .title((String) row[2])
+                    .startTime((LocalDateTime) row[3])
+                    .endTime((LocalDateTime) row[4])
+                    .build());
+        }
+        return result;
+    }
+
+    private static String buildGroupTop2Query(String groupCondition) {
+        return "select t.date_id, t.start_date, t.slot_count, t.group_id, t.slot_id, t.title, t.start_time, t.importance " +
+                "from (" +
+                "select d.date_id, d.start_date, d.slot_count, d.group_id, gs.group_slot_id as slot_id, gs.title, gs.start_time, gs.importance, " +
+                "row_number() over (partition by d.date_id order by gs.importance desc, gs.group_slot_id) as rn " +
+                "from schedule_date d " +
+                "join group_slot gs on gs.date_id = d.date_id " +
+                "where " + groupCondition + " and d.start_date >= :startDate and d.start_date < :endDate" +
+                ") t " +
+                "where t.rn <= 2 " +
+                "order by t.start_date, t.date_id, t.rn";
+    }
+
+    private static String buildImportancePriority(String column) {
+        StringBuilder sb = new StringBuilder("case ").append(column);
+        for (SlotImportance importance : SlotImportance.values()) {
+            sb.append(" when '").append(importance.name()).append("' then ").append(importance.getPriority());
+        }
+        return sb.append(" else 0 end").toString();
+    }
 }
@@ -2,6 +2,7 @@ package backend.synGo.repository.query.impl;
 
 import backend.synGo.domain.userGroupData.Role;
 import backend.synGo.exception.NotFoundContentsException;
+import backend.synGo.form.GroupsPagingCursor;
 import backend.synGo.form.GroupsPagingForm;
 import backend.synGo.repository.query.GroupRepositoryQuery;
 import jakarta.persistence.EntityManager;
@@ -31,7 +32,8 @@ public class GroupRepositoryQueryImpl implements GroupRepositoryQuery {
                             "(g.id, ug.id, g.createDate, g.name, g.information, ug.nickname) " +
                             "from GroupBasic g " +
                             "join g.userGroup ug " +
-                            "where ug.role = :role", GroupsPagingForm.class);
+                            "where ug.role = :role " +
+                            "order by g.createDate, g.id", GroupsPagingForm.class);
 
             query.setParameter("role", role);
             query.setFirstResult((int) pageable.getOffset());
@@ -46,4 +48,34 @@ public class GroupRepositoryQueryImpl implements GroupRepositoryQuery {
             throw new NotFoundContentsException("생성된 컨텐츠가 없습니다");
         }
     }
+
+    /**
+     * 커서 이후의 그룹을 (createDate, groupId) 인덱스 순서로 조회
+     * offset 없이 커서 위치부터 읽으므로 페이지 위치와 상관없이 비용이 같다.
+     * 다음 페이지 존재 여부 확인을 위해 size + 1 개를 조회한다.
+     * @param cursor 첫 페이지인 경우 null
+     * @param size
+     * @return
+     */
+    @Override
+    public List<GroupsPagingForm> findAllGroupAfterCursor(GroupsPagingCursor cursor, int size) {
+        String cursorCondition = cursor == null ? "" :
+                "and (g.createDate > :createDate or (g.createDate = :createDate and g.id > :groupId)) ";
+        TypedQuery<GroupsPagingForm> query = em.createQuery(
+                "select new backend.synGo.form.GroupsPagingForm" +
+                        "(g.id, ug.id, g.createDate, g.name, g.information, ug.nickname) " +
+                        "from GroupBasic g " +
+                        "join g.userGroup ug " +
+                        "where ug.role = :role " +
+                        cursorCondition +
+                        "order by g.createDate, g.id", GroupsPagingForm.class);
+
+        query.setParameter("role", Role.LEADER);
+        if (cursor != null) {
+            query.setParameter("createDate", cursor.getCreateDate());
+            query.setParameter("groupId", cursor.getGroupId());
+        }
+        query.setMaxResults(size + 1);
+        return query.getResultList();
+    }
 }
@@ -1,13 +1,18 @@
 package backend.synGo.repository.query.impl;
 
+import backend.synGo.domain.slot.SlotImportance;
 import backend.synGo.domain.slot.SlotPermission;
+import backend.synGo.form.DateDtoForDay;
 import backend.synGo.form.SlotDtoForDay;
 import backend.synGo.repository.query.GroupSlotRepositoryQuery;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
@@ -20,20 +25,52 @@ public class GroupSlotRepositoryQueryImpl implements GroupSlotRepositoryQuery {
             "from GroupSlot gs " +
             "join gs.date d " +
             "where d.id =:dateId And";
-    private String findAllQuery = "select new backend.synGo.form.SlotDtoForDay" +
-            "(d.group.id, gs.id, gs.title, gs.startTime, gs.endTime, gs.importance, ug.id, ug.nickname) " +
-            "from GroupSlot gs " +
-            "join gs.date d " +
-            "left join gs.slotMember sm " +
-            "left join sm.slotPermission sp on sp.slotPermission = :permission " +
-            "left join sm.userGroup ug " +
-            "where d.id = :dateId";
+
+    /**
+     * 그룹원 확인과 하루 slot 데이터 정보를 한번의 쿼리로 조회
+     * 요청자의 userGroup 에서 시작해 해당 날짜의 date, slot 을 left join 하므로
+     * 결과가 없으면 그룹원이 아니고, date 가 없으면 빈 하루 데이터를 반환한다.
+     * @param groupId
+     * @param userId
+     * @param day
+     * @return
+     */
     @Override
-    public List<SlotDtoForDay> findByGroupIdAndDay(Long dateId) {
-        return em.createQuery(findAllQuery, SlotDtoForDay.class)
-                .setParameter("dateId", dateId)
+    public Optional<DateDtoForDay> findDayViewByMember(Long groupId, Long userId, LocalDate day) {
+        List<Object[]> rows = em.createQuery("select d.slotCount, gs.id, gs.title, gs.startTime, gs.endTime, gs.importance, ug.id, ug.nickname " +
+                        "from UserGroup me " +
+                        "left join ScheduleDate d on d.group.id = me.group.id and d.startDate = :day " +
+                        "left join d.groupSlot gs " +
+                        "left join gs.slotMember sm " +
+                        "left join sm.slotPermission sp on sp.slotPermission = :permission " +
+                        "left join sm.userGroup ug " +
+                        "where me.group.id = :groupId and me.user.id = :userId", Object[].class)
+                .setParameter("groupId", groupId)
+                .setParameter("userId", userId)
+                .setParameter("day", day)
                 .setParameter("permission", SlotPermission.EDITOR)
                 .getResultList();
+        if (rows.isEmpty()) return Optional.empty();
+        if (rows.get(0)[0] == null) return Optional.of(DateDtoForDay.builder().build());
+
+        List<SlotDtoForDay> slotInfo = rows.stream()
+                .filter(row -> row[1] != null)
+                .map(row -> SlotDtoForDay.builder()
+                        .groupId(groupId)
+                        .slotId((Long) row[1])
+                        .title((String) row[2])
+                        .startTime((LocalDateTime) row[3])
+                        .endTime((LocalDateTime) row[4])
+                        .importance((SlotImportance) row[5])
+                        .userGroupId((Long) row[6])
+                        .editorNickname((String) row[7])
+                        .build())
+                .toList();
+        return Optional.of(DateDtoForDay.builder()
+                .slotCount((Integer) rows.get(0)[0])
+                .today(day)
+                .slotInfo(slotInfo)
+                .build());
     }
 
     @Override
@@ -55,4 +92,40 @@ public class GroupSlotRepositoryQueryImpl implements GroupSlotRepositoryQuery {
                 .setParameter("dateIds", dateIds)
                 .getResultList();
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 그룹의 (afterTime, afterSlotId) 이후 그룹 슬롯을 (시작 시간, id) 순으로 한번에 조회
+     * @param groupIds
+     * @param afterTime
+     * @param afterSlotId
+     * @param endTime
+     * @param size
+     * @return
+     */
+    @Override
+    public List<SlotDtoForDay> findGroupSlotsAfter(List<Long> groupIds, LocalDateTime afterTime, Long afterSlotId, LocalDateTime endTime, int size) {
+        return em.createQuery("select d.group.id, gs.id, gs.title, gs.startTime, gs.endTime, gs.importance " +
+                        "from GroupSlot gs " +
+                        "join gs.date d " +
+                        "where d.group.id in :groupIds " +
+                        "and (gs.startTime > :afterTime or (gs.startTime = :afterTime and gs.id > :afterSlotId)) " +
+                        "and gs.startTime < :endTime " +
+                        "order by gs.startTime, gs.id", Object[].class)
+                .setParameter("groupIds", groupIds)
+                .setParameter("afterTime", afterTime)
+                .setParameter("afterSlotId", afterSlotId)
+                .setParameter("endTime", endTime)
+                .setMaxResults(size)
+                .getResultList()
+                .stream()
+                .map(row -> SlotDtoForDay.builder()
+                        .groupId((Long) row[0])
+                        .slotId((Long) row[1])
+                        .title((String) row[2])
+                        .startTime((LocalDateTime) row[3])
+                        .endTime((LocalDateTime) row[4])
+                        .importance((SlotImportance) row[5])
+                        .build())
+                .toList();
+    }
+}
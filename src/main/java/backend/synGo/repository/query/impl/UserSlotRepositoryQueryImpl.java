@@ -1,5 +1,6 @@
 package backend.synGo.repository.query.impl;
 
+import backend.synGo.domain.slot.SlotImportance;
 import backend.synGo.domain.slot.SlotPermission;
 import backend.synGo.form.SlotDtoForDay;
 import backend.synGo.repository.query.UserSlotRepositoryQuery;
@@ -7,6 +8,7 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -35,4 +37,39 @@ public class UserSlotRepositoryQueryImpl implements UserSlotRepositoryQuery {
                 .setParameter("permission", SlotPermission.EDITOR)
                 .getResultList();
     }
+
+    /**
+     * (afterTime, afterSlotId) 이후의 개인 슬롯을 시작 시간 순으로 조회
+     * @param userId
+     * @param afterTime
+     * @param afterSlotId
+     * @param endTime
+     * @param size
+     * @return
+     */
+    @Override
+    public List<SlotDtoForDay> findUserSlotsAfter(Long userId, LocalDateTime afterTime, Long afterSlotId, LocalDateTime endTime, int size) {
+        return em.createQuery("select us.id, us.title, us.startTime, us.endTime, us.importance " +
+                        "from UserSlot us " +
+                        "join us.date d " +
+                        "where d.user.id = :userId " +
+                        "and (us.startTime > :afterTime or (us.startTime = :afterTime and us.id > :afterSlotId)) " +
+                        "and us.startTime < :endTime " +
+                        "order by us.startTime, us.id", Object[].class)
+                .setParameter("userId", userId)
+                .setParameter("afterTime", afterTime)
+                .setParameter("afterSlotId", afterSlotId)
+                .setParameter("endTime", endTime)
+                .setMaxResults(size)
+                .getResultList()
+                .stream()
+                .map(row -> SlotDtoForDay.builder()
+                        .slotId((Long) row[0])
+                        .title((String) row[1])
+                        .startTime((LocalDateTime) row[2])
+                        .endTime((LocalDateTime) row[3])
+                        .importance((SlotImportance) row[4])
+                        .build())
+                .toList();
+    }
 }
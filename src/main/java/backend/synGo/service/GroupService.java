@@ -1,5 +1,6 @@
 package backend.synGo.service;
 
+import backend.synGo.config.scheduler.GroupSchedulerProvider;
 import backend.synGo.domain.group.Group;
 import backend.synGo.domain.schedule.GroupScheduler;
 import backend.synGo.domain.schedule.Theme;
@@ -8,6 +9,7 @@ import backend.synGo.domain.userGroupData.Role;
 import backend.synGo.domain.userGroupData.UserGroup;
 import backend.synGo.exception.*;
 import backend.synGo.form.requestForm.GroupRequestForm;
+import backend.synGo.form.GroupsPagingCursor;
 import backend.synGo.form.GroupsPagingForm;
 import backend.synGo.form.requestForm.JoinGroupForm;
 import backend.synGo.form.responseForm.GroupIdResponseForm;
@@ -43,6 +45,7 @@ public class GroupService {
     private final ThemeService themeService;
     private final UserGroupRepository userGroupRepository;
     private final GroupSchedulerService groupSchedulerService;
+    private final GroupSchedulerProvider groupSchedulerProvider;
 
     /**
      * 그룹 생성 -> userGroup, GroupScheduler 생성
@@ -80,6 +83,33 @@ public class GroupService {
                 .numberOfElements(allGroupForSlice.getNumberOfElements())
                 .size(pageable.getPageSize())
                 .isLast(allGroupForSlice.isLast())
+                .nextCursor(allGroupForList.isEmpty() || allGroupForSlice.isLast() ? null :
+                        GroupsPagingCursor.from(allGroupForList.get(allGroupForList.size() - 1)).encode())
+                .build();
+    }
+
+    /**
+     * 모든 그룹 커서 페이징 검색
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지인 경우 null
+     * @param size 1 이상
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public AllGroupDataResponse findGroups(String cursor, int size) {
+        if (size < 1) {
+            throw new NotValidException("size 는 1 이상이어야 합니다");
+        }
+        GroupsPagingCursor pagingCursor = StringUtils.hasText(cursor) ? GroupsPagingCursor.decode(cursor) : null;
+        List<GroupsPagingForm> groups = groupRepository.findAllGroupAfterCursor(pagingCursor, size);
+        //size + 1 개를 조회해 다음 페이지 확인
+        boolean isLast = groups.size() <= size;
+        List<GroupsPagingForm> content = isLast ? groups : groups.subList(0, size);
+        return AllGroupDataResponse.builder()
+                .groupsPagingForms(content)
+                .numberOfElements(content.size())
+                .size(size)
+                .isLast(isLast)
+                .nextCursor(isLast ? null : GroupsPagingCursor.from(content.get(content.size() - 1)).encode())
                 .build();
     }
 
@@ -254,6 +284,13 @@ public class GroupService {
     private void saveUserGroup(User user, Group group) {
         UserGroup userGroup = new UserGroup(user.getName(), user, group, Role.GUEST);
         userGroupRepository.save(userGroup);
+        //커밋 후 그룹원 set 갱신 및 새 그룹의 슬롯이 포함되도록 유저 그룹 캐시 삭제
+        Long groupId = group.getId();
+        Long userId = user.getId();
+        groupSchedulerProvider.afterCommit(() -> {
+            groupSchedulerProvider.addGroupMember(groupId, userId);
+            groupSchedulerProvider.evictMyGroupScheduleAllMonths(userId);
+        });
     }
 
     /**
@@ -2,6 +2,7 @@ package backend.synGo.service;
 
 import backend.synGo.config.scheduler.GroupSchedulerProvider;
 import backend.synGo.domain.date.Date;
+import backend.synGo.domain.date.GroupDateSummary;
 import backend.synGo.domain.group.Group;
 import backend.synGo.domain.slot.GroupSlot;
 import backend.synGo.domain.slot.SlotMember;
@@ -12,11 +13,14 @@ import backend.synGo.exception.AccessDeniedException;
 import backend.synGo.exception.NotFoundContentsException;
 import backend.synGo.exception.NotFoundUserException;
 import backend.synGo.exception.NotValidException;
+import backend.synGo.form.DateDtoForMonth;
 import backend.synGo.form.requestForm.SlotForm;
 import backend.synGo.form.responseForm.SlotIdResponse;
 import backend.synGo.form.responseForm.SlotResponseForm;
 import backend.synGo.repository.*;
 import backend.synGo.service.date.group.DateInGroupService;
+import backend.synGo.webSocket.message.GroupSlotChange;
+import backend.synGo.webSocket.message.GroupSyncOperation;
 import backend.synGo.webSocket.service.GroupSyncService;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
@@ -71,10 +75,13 @@ public class GroupSlotService {
         //date의 SlotCount +1
         date.addSlotCount();
         groupSlotRepository.save(groupSlot);
-        //캐시 초기화
-        evictCache(groupId, userId, updateDate);
-        //webSocket Pub
-        groupSyncService.groupCreateSyncGoPub(groupId, startDate);
+        //date 요약 갱신
+        GroupDateSummary summary = dateService.refreshDateSummary(date);
+        //캐시 갱신
+        refreshCache(groupId, startDate, summary);
+        //webSocket Pub, 생성된 슬롯과 갱신된 요약을 함께 전달
+        groupSyncService.groupCreateSyncGoPub(groupId, startDate,
+                GroupSlotChange.of(GroupSyncOperation.CREATE, groupSlot), DateInGroupService.getSummaryToDto(summary));
         return groupSlot.getId();
     }
 
@@ -99,10 +106,14 @@ public class GroupSlotService {
             GroupSlot groupSlot = groupSlotRepository.joinSlotMemberAndUserGroupBySlotId(slotId)
                     .orElseThrow(() -> new NotFoundContentsException("슬롯 정보 없음"));
             GroupSlot updatedSlot = setGroupSlot(form, groupSlot, requesterUserGroup);
-            //캐시 초기화
-            evictCache(groupId, userId, form.getStartDate());
-            //webSocket Pub
-            groupSyncService.groupUpdateSlotSyncGoPub(groupId, form.getStartDate().toLocalDate(), slotId);
+            //date 요약 갱신
+            GroupDateSummary summary = dateService.refreshDateSummary(updatedSlot.getDate());
+            //캐시 갱신, 요약은 슬롯이 속한 date 기준
+            LocalDate slotDay = updatedSlot.getDate().getStartDate();
+            refreshCache(groupId, slotDay, summary);
+            //webSocket Pub, 캐시와 같은 슬롯이 속한 date 의 날짜로 발행
+            groupSyncService.groupUpdateSlotSyncGoPub(groupId, slotDay,
+                    GroupSlotChange.of(GroupSyncOperation.UPDATE, updatedSlot), DateInGroupService.getSummaryToDto(summary));
             return new SlotIdResponse(updatedSlot.getId());
         }
         throw new AccessDeniedException("권한 부족");
@@ -123,14 +134,14 @@ public class GroupSlotService {
             log.info("리더의 슬롯 상태 변경 요청");
             groupSlot.updateStatus(statusService.getStatus(form.getStatus()), requesterUserGroup.getNickname());
             //webSocket Pub
-            groupSyncService.groupSlotSyncGoPub(groupId, slotId);
+            groupSyncService.groupSlotSyncGoPub(groupId, GroupSlotChange.of(GroupSyncOperation.STATUS, groupSlot));
             return new SlotIdResponse(slotId);
         }
         if ( requesterSlotMember.isPresent() && requesterSlotMember.get().getSlotPermission().getSlotPermission().equals(SlotPermission.EDITOR )) {
             log.info("에디터의 슬롯 상태 변경 요청");
             groupSlot.updateStatus(statusService.getStatus(form.getStatus()), requesterUserGroup.getNickname());
             //webSocket Pub
-            groupSyncService.groupSlotSyncGoPub(groupId, slotId);
+            groupSyncService.groupSlotSyncGoPub(groupId, GroupSlotChange.of(GroupSyncOperation.STATUS, groupSlot));
             return new SlotIdResponse(slotId);
         }
         throw new AccessDeniedException("변경 권한이 없습니다");
@@ -141,27 +152,36 @@ public class GroupSlotService {
         checkUserGroupRole(groupId, userId);
         GroupSlot groupSlot = groupSlotRepository.findSlotWithDateBySlotId(slotId)
                 .orElseThrow(() -> new NotFoundContentsException("슬롯 정보 없음"));
-        //date의 slot 연결 해제
+        //date의 slot 연결 해제 및 date 요약 갱신
         Date date = groupSlot.getDate();
-        dateService.deleteGroupSlotFromDate(date, groupSlot);
+        Optional<GroupDateSummary> summary = dateService.deleteGroupSlotFromDate(date, groupSlot);
         //그룹 슬롯 삭제
-        LocalDateTime updateDate = groupSlot.getStartTime();
         groupSlotRepository.delete(groupSlot);
-        //캐시 초기화
-        evictCache(groupId, userId, updateDate);
-        //webSocket Pub
-        groupSyncService.groupUpdateSlotSyncGoPub(groupId, updateDate.toLocalDate(), slotId);
+        //캐시 갱신
+        refreshCache(groupId, date.getStartDate(), summary.orElse(null));
+        //webSocket Pub, 슬롯이 없어진 날짜는 빈 요약으로 전달
+        DateDtoForMonth changedDay = summary.map(DateInGroupService::getSummaryToDto)
+                .orElseGet(() -> new DateDtoForMonth(0, date.getStartDate(), new ArrayList<>()));
+        groupSyncService.groupUpdateSlotSyncGoPub(groupId, date.getStartDate(), GroupSlotChange.deleted(slotId), changedDay);
     }
 
-    private void evictCache(Long groupId, Long userId, LocalDateTime updateDate) {
-        if (groupSchedulerProvider.isSameYearAndMonth(updateDate.toLocalDate())){
-            //이번 달에 슬롯 추가 시 캐시 초기화
-            groupSchedulerProvider.evictGroupSchedule(groupId, updateDate.getYear(), updateDate.getMonthValue());
-            groupSchedulerProvider.evictMyGroupSchedule(userId, updateDate.getYear(), updateDate.getMonthValue());
-        } else if (groupSchedulerProvider.isSameYearAndMonthPlusOne(updateDate.toLocalDate())) {
-            //다음 달에 슬롯 추가 시 그룹 캐시 초기화
-            groupSchedulerProvider.evictGroupSchedule(groupId, updateDate.getYear(), updateDate.getMonthValue());
-        }
+    /**
+     * 슬롯 변경 후 캐시 갱신
+     * 그룹 한달 캐시는 변경된 하루만 갱신된 요약으로 교체하고 해당 달 버전을 증가시킨다.
+     * 그룹 하루 캐시는 한달 버전별 key 에 있으므로 버전 증가로 함께 무효화된다. (발행 묶음이 버려져도 캐시는 남지 않음)
+     * 유저 그룹 캐시는 그룹원 마다 다시 계산해야 하므로 그룹원 모두의 해당 달 캐시를 삭제한다.
+     * 요약은 트랜잭션 안에서 dto 로 만들고, Redis 변경과 무효화 메시지 발행은 커밋 후에 실행한다.
+     * @param groupId
+     * @param day
+     * @param summary 갱신된 요약, date 가 삭제된 경우 null
+     */
+    private void refreshCache(Long groupId, LocalDate day, GroupDateSummary summary) {
+        DateDtoForMonth dateDto = summary == null ? null : DateInGroupService.getSummaryToDto(summary);
+        groupSchedulerProvider.afterCommit(() -> {
+            groupSchedulerProvider.patchGroupSchedule(groupId, day, dateDto);
+            groupSchedulerProvider.evictMembersMyGroupSchedule(groupId, day.getYear(), day.getMonthValue(),
+                    () -> userGroupRepository.findUserIdsByGroupId(groupId));
+        });
     }
 
     private List<JoinMemberForm> buildSlotMember(GroupSlot groupSlot) {
@@ -6,6 +6,7 @@ import backend.synGo.domain.slot.Status;
 import backend.synGo.domain.slot.UserSlot;
 import backend.synGo.domain.user.User;
 import backend.synGo.exception.*;
+import backend.synGo.form.DateDtoForMonth;
 import backend.synGo.form.requestForm.SlotForm;
 import backend.synGo.form.responseForm.SlotIdResponse;
 import backend.synGo.repository.DateRepository;
@@ -58,12 +59,10 @@ public class SlotService {
         UserSlot userSlot = createSlot(slotForm, date);
         //date의 SlotCount +1
         date.addSlotCount();
-        //이번 달에 슬롯 추가 시 캐시 초기화
-        if (groupSchedulerProvider.isSameYearAndMonth(slotForm.getStartDate().toLocalDate())){
-            groupSchedulerProvider.evictMySchedule(userId,slotForm.getStartDate().getYear(), slotForm.getStartDate().getMonthValue());
-        }
         // cascade로 전부 저장 전파
         userSlotRepository.save(userSlot);
+        //캐시 갱신 및 해당 달 버전 증가 (버전은 모든 달에 대해 증가해야 하므로 조건 없이 호출)
+        refreshCache(userId, startDate);
         return userSlot.getId();
     }
 
@@ -103,9 +102,8 @@ public class SlotService {
                 }
                 Status status = statusService.getStatus(form.getStatus());
                 slot.get().updateSlot(status, form.getTitle(), form.getContent(), form.getStartDate(), form.getEndDate(), form.getPlace(), form.getImportance());
-                if (groupSchedulerProvider.isSameYearAndMonth(form.getStartDate().toLocalDate())){
-                    groupSchedulerProvider.evictMySchedule(userId,form.getStartDate().getYear(), form.getStartDate().getMonthValue());
-                }
+                //슬롯이 속한 date 의 캐시 갱신 및 버전 증가 (슬롯은 시작 시간이 바뀌어도 같은 date 에 남는다)
+                refreshCache(userId, slot.get().getDate().getStartDate());
                 return new SlotIdResponse(slotId);
             } throw new NotFoundContentsException("해당 슬롯을 찾을 수 없습니다.");
         } throw new NotFoundUserException("해당 유저의 슬롯이 아닙니다.");
@@ -121,12 +119,24 @@ public class SlotService {
             dateService.deleteUserSlotFromDate(date, userSlot);
             //그룹 슬롯 삭제
             userSlotRepository.delete(userSlot);
-            //캐시 초기화
-            groupSchedulerProvider.evictMySchedule(userId,userSlot.getStartTime().getYear(), userSlot.getStartTime().getMonthValue());
+            //캐시 갱신
+            refreshCache(userId, date.getStartDate());
             return ;
         } throw new AccessDeniedException("해당 유저의 슬롯이 아닙니다.");
     }
 
+    /**
+     * 슬롯 변경 후 개인 한달 캐시의 하루를 다시 조회한 값으로 교체
+     * 변경 내용이 하루 조회 쿼리에 반영되도록 먼저 flush 하고, 교체는 커밋 후에 실행한다.
+     * @param userId
+     * @param day
+     */
+    private void refreshCache(Long userId, LocalDate day) {
+        userSlotRepository.flush();
+        DateDtoForMonth dateDto = dateService.findUserDataByDay(day, userId);
+        groupSchedulerProvider.afterCommit(() -> groupSchedulerProvider.patchMySchedule(userId, day, dateDto));
+    }
+
     private static UserSlotResponseForm createMySlotResponseForm(UserSlot userSlot) {
         return UserSlotResponseForm.builder()
                 .slotId(userSlot.getId())
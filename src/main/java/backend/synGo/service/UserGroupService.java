@@ -1,5 +1,6 @@
 package backend.synGo.service;
 
+import backend.synGo.config.scheduler.GroupSchedulerProvider;
 import backend.synGo.domain.group.Group;
 import backend.synGo.domain.user.User;
 import backend.synGo.domain.userGroupData.Role;
@@ -22,10 +23,15 @@ import static backend.synGo.controller.group.UserGroupController.*;
 public class UserGroupService {
 
     private final UserGroupRepository userGroupRepository;
+    private final GroupSchedulerProvider groupSchedulerProvider;
 
     @Transactional
     public void saveUserGroupData(String nickname, User user, Group group, Role role){
         userGroupRepository.save(new UserGroup(nickname, user, group, role));
+        //커밋 후 그룹원 set 갱신
+        Long groupId = group.getId();
+        Long userId = user.getId();
+        groupSchedulerProvider.afterCommit(() -> groupSchedulerProvider.addGroupMember(groupId, userId));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,109 @@
+package backend.synGo.service.date.freebusy;
+
+import backend.synGo.form.TimeRangeDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static backend.synGo.service.date.freebusy.SlotIntervalIndex.fromSecond;
+import static backend.synGo.service.date.freebusy.SlotIntervalIndex.toSecond;
+
+/**
+ * 일정 quantum(기본 15분) 단위의 바쁜 시간 bitset
+ * bit i 는 [origin + i * quantum, origin + (i + 1) * quantum) 구간이 바쁜지를 나타낸다.
+ * 여러 사람의 바쁜 시간을 같은 bitset 에 표시하면 각자의 bitset 을 OR 한 것과 같다.
+ */
+public final class BusyTimeline {
+
+    public static final int QUANTUM_MINUTES = 15;
+    private static final long QUANTUM_SECONDS = QUANTUM_MINUTES * 60L;
+
+    private final long originSecond;
+    private final int size;
+    private final long[] words;
+
+    /**
+     * 후보 구간이 요청 범위를 벗어나지 않도록 from 은 quantum 단위로 올림, to 는 내림해서 범위를 잡는다.
+     * @param from
+     * @param to
+     */
+    public BusyTimeline(LocalDateTime from, LocalDateTime to) {
+        this.originSecond = Math.floorDiv(toSecond(from) + QUANTUM_SECONDS - 1, QUANTUM_SECONDS) * QUANTUM_SECONDS;
+        long endSecond = Math.floorDiv(toSecond(to), QUANTUM_SECONDS) * QUANTUM_SECONDS;
+        this.size = (int) Math.max(0, (endSecond - originSecond) / QUANTUM_SECONDS);
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * [startSecond, endSecond) 와 겹치는 quantum 을 모두 바쁨으로 표시
+     * @param startSecond
+     * @param endSecond
+     */
+    public void markBusy(long startSecond, long endSecond) {
+        int from = (int) Math.max(0, Math.floorDiv(startSecond - originSecond, QUANTUM_SECONDS));
+        int to = (int) Math.min(size, Math.floorDiv(endSecond - originSecond + QUANTUM_SECONDS - 1, QUANTUM_SECONDS));
+        if (from >= to) return;
+
+        int fromWord = from >>> 6;
+        int toWord = (to - 1) >>> 6;
+        long fromMask = -1L << from;
+        long toMask = -1L >>> -to;
+        if (fromWord == toWord) {
+            words[fromWord] |= fromMask & toMask;
+            return;
+        }
+        words[fromWord] |= fromMask;
+        for (int i = fromWord + 1; i < toWord; i++) words[i] = -1L;
+        words[toWord] |= toMask;
+    }
+
+    /**
+     * minQuanta 이상 연속으로 비어있는 구간을 앞에서부터 최대 limit 개 반환
+     * @param minQuanta
+     * @param limit
+     * @return
+     */
+    public List<TimeRangeDto> findFreeWindows(int minQuanta, int limit) {
+        List<TimeRangeDto> windows = new ArrayList<>();
+        int index = nextClearBit(0);
+        while (index < size && windows.size() < limit) {
+            int end = nextSetBit(index);
+            if (end - index >= minQuanta) {
+                windows.add(new TimeRangeDto(toTime(index), toTime(end)));
+            }
+            index = nextClearBit(end);
+        }
+        return windows;
+    }
+
+    private int nextSetBit(int from) {
+        if (from >= size) return size;
+        int wordIndex = from >>> 6;
+        long word = words[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) return Math.min(size, (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+            if (++wordIndex == words.length) return size;
+            word = words[wordIndex];
+        }
+    }
+
+    private int nextClearBit(int from) {
+        if (from >= size) return size;
+        int wordIndex = from >>> 6;
+        long word = ~words[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) return Math.min(size, (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+            if (++wordIndex == words.length) return size;
+            word = ~words[wordIndex];
+        }
+    }
+
+    private LocalDateTime toTime(int index) {
+        return fromSecond(originSecond + index * QUANTUM_SECONDS);
+    }
+}
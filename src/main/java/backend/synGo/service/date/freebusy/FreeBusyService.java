@@ -0,0 +1,258 @@
+package backend.synGo.service.date.freebusy;
+
+import backend.synGo.config.scheduler.GroupSchedulerProvider;
+import backend.synGo.exception.AccessDeniedException;
+import backend.synGo.form.SlotIntervalDto;
+import backend.synGo.form.TimeRangeDto;
+import backend.synGo.form.responseForm.FreeBusyResponseForm;
+import backend.synGo.repository.DateRepository;
+import backend.synGo.repository.UserGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+import static backend.synGo.service.date.freebusy.SlotIntervalIndex.fromSecond;
+import static backend.synGo.service.date.freebusy.SlotIntervalIndex.toSecond;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FreeBusyService {
+
+    public static final int MAX_RANGE_MONTHS = 3;
+    public static final int MAX_DURATION_MINUTES = 24 * 60;
+    private static final int MAX_AVAILABILITY_WINDOWS = 100;
+    private static final int MAX_INDEX_ENTRIES = 5_000;
+    // index 구성 구간, 조회 시작일이 속한 달부터 MAX_RANGE_MONTHS 범위가 모두 들어가도록 한 달을 더함
+    private static final int INDEX_WINDOW_MONTHS = MAX_RANGE_MONTHS + 1;
+    // 버전 증가가 커밋보다 먼저 일어나 이전 데이터로 만들어진 index 가 남는 경우를 대비한 최대 유지 시간
+    private static final Duration MAX_INDEX_AGE = Duration.ofMinutes(1);
+
+    private final DateRepository dateRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final GroupSchedulerProvider groupSchedulerProvider;
+
+    // 유저, 그룹과 구성 구간 시작 달 별 interval index (LRU)
+    private final Map<String, VersionedIndex> indexes = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VersionedIndex> eldest) {
+                    return size() > MAX_INDEX_ENTRIES;
+                }
+            });
+
+    /**
+     * 개인 슬롯과 속한 모든 그룹 슬롯 기준의 free/busy 조회
+     * @param from
+     * @param to
+     * @param requestUserId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public FreeBusyResponseForm getMyFreeBusy(LocalDateTime from, LocalDateTime to, Long requestUserId) {
+        checkFreeBusyRange(from, to);
+        return buildFreeBusy(from, to, getUserBusyIndexes(requestUserId, YearMonth.from(from)));
+    }
+
+    /**
+     * 그룹 슬롯 기준의 free/busy 조회
+     * @param groupId
+     * @param from
+     * @param to
+     * @param requestUserId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public FreeBusyResponseForm getGroupFreeBusy(Long groupId, LocalDateTime from, LocalDateTime to, Long requestUserId) {
+        checkFreeBusyRange(from, to);
+        if (!userGroupRepository.existsByGroupIdAndUserId(groupId, requestUserId)) {
+            throw new AccessDeniedException("그룹원 외 접근 불가");
+        }
+        return buildFreeBusy(from, to, getGroupIndexes(List.of(groupId), YearMonth.from(from)));
+    }
+
+    /**
+     * 그룹원 모두가 비어있는 시간 중 duration 이상 연속된 후보 구간 조회
+     * 그룹원의 개인 슬롯과 그룹원이 속한 모든 그룹의 슬롯을 15분 단위 bitset 에 OR 로 표시한 뒤
+     * 0 bit 가 이어진 구간을 찾는다. 같은 그룹의 슬롯은 여러 그룹원이 공유하므로 한번만 표시한다.
+     * @param groupId
+     * @param from
+     * @param to
+     * @param durationMinutes
+     * @param requestUserId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<TimeRangeDto> findCommonAvailability(Long groupId, LocalDateTime from, LocalDateTime to, int durationMinutes, Long requestUserId) {
+        checkFreeBusyRange(from, to);
+        if (durationMinutes < BusyTimeline.QUANTUM_MINUTES || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new DateTimeException("일정 길이를 확인해주세요");
+        }
+        if (!userGroupRepository.existsByGroupIdAndUserId(groupId, requestUserId)) {
+            throw new AccessDeniedException("그룹원 외 접근 불가");
+        }
+        YearMonth window = YearMonth.from(from);
+        List<SlotIntervalIndex> busyIndexes = new ArrayList<>(getUserIndexes(userGroupRepository.findUserIdsByGroupId(groupId), window));
+        busyIndexes.addAll(getGroupIndexes(userGroupRepository.findMembersGroupIdsByGroupId(groupId), window));
+
+        BusyTimeline timeline = new BusyTimeline(from, to);
+        for (SlotIntervalIndex index : busyIndexes) {
+            index.forEachOverlap(from, to, timeline::markBusy);
+        }
+        int minQuanta = (durationMinutes + BusyTimeline.QUANTUM_MINUTES - 1) / BusyTimeline.QUANTUM_MINUTES;
+        return timeline.findFreeWindows(minQuanta, MAX_AVAILABILITY_WINDOWS);
+    }
+
+    /**
+     * 유저의 개인 슬롯 index 와 속한 모든 그룹의 슬롯 index
+     * @param userId
+     * @param window 구성 구간 시작 달
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<SlotIntervalIndex> getUserBusyIndexes(Long userId, YearMonth window) {
+        List<SlotIntervalIndex> result = new ArrayList<>(getUserIndexes(List.of(userId), window));
+        result.addAll(getGroupIndexes(userGroupRepository.findGroupIdsByUserId(userId), window));
+        return result;
+    }
+
+    /**
+     * 개인 슬롯 index 조회, 버전은 한번에 조회하고 바뀐 유저만 한번의 쿼리로 다시 만든다.
+     * index 는 window 달부터 INDEX_WINDOW_MONTHS 동안의 슬롯만 담는다.
+     * @param userIds
+     * @param window 구성 구간 시작 달
+     * @return userIds 와 같은 순서의 index
+     */
+    @Transactional(readOnly = true)
+    public List<SlotIntervalIndex> getUserIndexes(List<Long> userIds, YearMonth window) {
+        return getIndexes("MY:", userIds, window, groupSchedulerProvider.getMyIndexVersions(userIds),
+                dateRepository::findUserSlotIntervals);
+    }
+
+    /**
+     * 그룹 슬롯 index 조회, 버전은 한번에 조회하고 바뀐 그룹만 한번의 쿼리로 다시 만든다.
+     * index 는 window 달부터 INDEX_WINDOW_MONTHS 동안의 슬롯만 담는다.
+     * @param groupIds
+     * @param window 구성 구간 시작 달
+     * @return groupIds 와 같은 순서의 index
+     */
+    @Transactional(readOnly = true)
+    public List<SlotIntervalIndex> getGroupIndexes(List<Long> groupIds, YearMonth window) {
+        return getIndexes("GROUP:", groupIds, window, groupSchedulerProvider.getGroupIndexVersions(groupIds),
+                dateRepository::findGroupSlotIntervals);
+    }
+
+    /**
+     * 버전이 같고 MAX_INDEX_AGE 안에 만든 index 는 재사용하고 나머지만 다시 구성
+     * Redis 장애로 버전을 알 수 없으면 모든 index 를 DB 에서 다시 구성하고 저장하지 않는다.
+     * @param prefix
+     * @param ownerIds
+     * @param window 구성 구간 시작 달
+     * @param versions ownerIds 와 같은 순서의 버전, 알 수 없으면 empty
+     * @param loader
+     * @return
+     */
+    private List<SlotIntervalIndex> getIndexes(String prefix, List<Long> ownerIds, YearMonth window, Optional<List<Long>> versions,
+                                               IntervalLoader loader) {
+        LocalDateTime now = LocalDateTime.now();
+        String keyPrefix = prefix + window + ":";
+        SlotIntervalIndex[] result = new SlotIntervalIndex[ownerIds.size()];
+        List<Integer> staleIndexes = new ArrayList<>();
+        for (int i = 0; i < ownerIds.size(); i++) {
+            VersionedIndex cached = versions.isEmpty() ? null : indexes.get(keyPrefix + ownerIds.get(i));
+            if (cached != null && cached.version == versions.get().get(i) && cached.builtAt.plus(MAX_INDEX_AGE).isAfter(now)) {
+                result[i] = cached.index;
+            } else {
+                staleIndexes.add(i);
+            }
+        }
+        if (!staleIndexes.isEmpty()) {
+            //버전이 바뀌었거나 처음 요청한 owner 만 DB 에서 다시 구성
+            Map<Long, List<SlotIntervalDto>> intervals = loader.load(staleIndexes.stream().map(ownerIds::get).toList(),
+                    window.atDay(1).atStartOfDay(), window.plusMonths(INDEX_WINDOW_MONTHS).atDay(1).atStartOfDay());
+            for (int i : staleIndexes) {
+                Long ownerId = ownerIds.get(i);
+                SlotIntervalIndex index = SlotIntervalIndex.build(intervals.getOrDefault(ownerId, Collections.emptyList()));
+                if (versions.isPresent()) {
+                    indexes.put(keyPrefix + ownerId, new VersionedIndex(versions.get().get(i), now, index));
+                }
+                result[i] = index;
+            }
+            log.info("interval index 구성 prefix={}, window={}, count={}", prefix, window, staleIndexes.size());
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * 겹치는 슬롯을 합쳐 바쁜 시간과 빈 시간 계산
+     * @param from
+     * @param to
+     * @param indexes
+     * @return
+     */
+    private static FreeBusyResponseForm buildFreeBusy(LocalDateTime from, LocalDateTime to, List<SlotIntervalIndex> indexes) {
+        List<SlotIntervalDto> slots = new ArrayList<>();
+        for (SlotIntervalIndex index : indexes) {
+            slots.addAll(index.findOverlaps(from, to));
+        }
+        slots.sort(Comparator.comparing(SlotIntervalDto::getStartTime));
+
+        long fromSecond = toSecond(from);
+        long toSecond = toSecond(to);
+        List<TimeRangeDto> busy = new ArrayList<>();
+        List<TimeRangeDto> free = new ArrayList<>();
+        long cursor = fromSecond;
+        long busyStart = -1;
+        long busyEnd = -1;
+        for (SlotIntervalDto slot : slots) {
+            long start = Math.max(toSecond(slot.getStartTime()), fromSecond);
+            long end = slot.getEndTime() == null || !slot.getEndTime().isAfter(slot.getStartTime())
+                    ? start : Math.min(toSecond(slot.getEndTime()), toSecond);
+            if (busyStart >= 0 && start <= busyEnd) {
+                busyEnd = Math.max(busyEnd, end);
+                continue;
+            }
+            if (busyStart >= 0) {
+                busy.add(new TimeRangeDto(fromSecond(busyStart), fromSecond(busyEnd)));
+                cursor = busyEnd;
+            }
+            if (start > cursor) free.add(new TimeRangeDto(fromSecond(cursor), fromSecond(start)));
+            busyStart = start;
+            busyEnd = end;
+        }
+        if (busyStart >= 0) {
+            busy.add(new TimeRangeDto(fromSecond(busyStart), fromSecond(busyEnd)));
+            cursor = busyEnd;
+        }
+        if (cursor < toSecond) free.add(new TimeRangeDto(fromSecond(cursor), to));
+
+        return FreeBusyResponseForm.builder()
+                .from(from)
+                .to(to)
+                .slots(slots)
+                .busy(busy)
+                .free(free)
+                .build();
+    }
+
+    public static void checkFreeBusyRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to) || from.plusMonths(MAX_RANGE_MONTHS).isBefore(to)) {
+            throw new DateTimeException("조회 범위를 확인해주세요");
+        }
+    }
+
+    private record VersionedIndex(long version, LocalDateTime builtAt, SlotIntervalIndex index) {
+    }
+
+    @FunctionalInterface
+    private interface IntervalLoader {
+        Map<Long, List<SlotIntervalDto>> load(List<Long> ownerIds, LocalDateTime from, LocalDateTime to);
+    }
+}
@@ -0,0 +1,118 @@
+package backend.synGo.service.date.freebusy;
+
+import backend.synGo.form.SlotIntervalDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 슬롯 시작, 종료 시간에 대한 정적 interval tree
+ * 시작 시간 순으로 정렬한 배열 위에 가운데 원소를 루트로 하는 균형 트리를 두고,
+ * 노드마다 서브트리의 최대 종료 시간을 저장해 겹치는 구간을 O(log n + k)로 찾는다.
+ * 종료 시간이 없는 슬롯은 시작 시각 한 지점으로 취급한다.
+ */
+public final class SlotIntervalIndex {
+
+    @FunctionalInterface
+    public interface IntervalConsumer {
+        void accept(long startSecond, long endSecond);
+    }
+
+    private final SlotIntervalDto[] slots;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private SlotIntervalIndex(SlotIntervalDto[] slots) {
+        this.slots = slots;
+        this.starts = new long[slots.length];
+        this.ends = new long[slots.length];
+        this.maxEnds = new long[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            starts[i] = toSecond(slots[i].getStartTime());
+            ends[i] = effectiveEnd(starts[i], slots[i].getEndTime());
+        }
+        buildMaxEnds(0, slots.length);
+    }
+
+    public static SlotIntervalIndex build(List<SlotIntervalDto> intervals) {
+        SlotIntervalDto[] sorted = intervals.stream()
+                .filter(slot -> slot.getStartTime() != null)
+                .sorted(Comparator.comparing(SlotIntervalDto::getStartTime).thenComparing(SlotIntervalDto::getSlotId))
+                .toArray(SlotIntervalDto[]::new);
+        return new SlotIntervalIndex(sorted);
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    /**
+     * [from, to) 와 겹치는 슬롯을 시작 시간 순으로 반환
+     * @param from
+     * @param to
+     * @return
+     */
+    public List<SlotIntervalDto> findOverlaps(LocalDateTime from, LocalDateTime to) {
+        List<SlotIntervalDto> result = new ArrayList<>();
+        collect(0, slots.length, toSecond(from), toSecond(to), result);
+        return result;
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간의 (시작, 종료) 초를 시작 시간 순으로 전달
+     * @param from
+     * @param to
+     * @param consumer
+     */
+    public void forEachOverlap(LocalDateTime from, LocalDateTime to, IntervalConsumer consumer) {
+        collectRange(0, slots.length, toSecond(from), toSecond(to), consumer);
+    }
+
+    private long buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) return Long.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, long from, long to, List<SlotIntervalDto> result) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        // 서브트리 전체가 from 이전에 끝남
+        if (maxEnds[mid] <= from) return;
+        collect(lo, mid, from, to, result);
+        // mid 와 오른쪽 서브트리는 모두 to 이후에 시작
+        if (starts[mid] >= to) return;
+        if (ends[mid] > from) result.add(slots[mid]);
+        collect(mid + 1, hi, from, to, result);
+    }
+
+    private void collectRange(int lo, int hi, long from, long to, IntervalConsumer consumer) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] <= from) return;
+        collectRange(lo, mid, from, to, consumer);
+        if (starts[mid] >= to) return;
+        if (ends[mid] > from) consumer.accept(starts[mid], ends[mid]);
+        collectRange(mid + 1, hi, from, to, consumer);
+    }
+
+    public static long toSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static LocalDateTime fromSecond(long second) {
+        return LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+    }
+
+    private static long effectiveEnd(long start, LocalDateTime endTime) {
+        if (endTime == null) return start + 1;
+        long end = toSecond(endTime);
+        return end > start ? end : start + 1;
+    }
+}
@@ -1,12 +1,16 @@
 package backend.synGo.service.date.group;
 
 import backend.synGo.config.scheduler.GroupSchedulerProvider;
+import backend.synGo.config.scheduler.ScheduleActivityTracker;
+import backend.synGo.config.scheduler.ScheduleFamily;
+import backend.synGo.config.scheduler.Versioned;
 import backend.synGo.domain.date.Date;
+import backend.synGo.domain.date.GroupDateSummary;
 import backend.synGo.domain.slot.GroupSlot;
-import backend.synGo.domain.slot.UserSlot;
 import backend.synGo.exception.AccessDeniedException;
 import backend.synGo.form.*;
 import backend.synGo.repository.DateRepository;
+import backend.synGo.repository.GroupDateSummaryRepository;
 import backend.synGo.repository.GroupSlotRepository;
 import backend.synGo.repository.UserGroupRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,156 +18,226 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DateInGroupService {
 
+    public static final int MAX_RANGE_MONTHS = 12;
+
     private final GroupSchedulerProvider groupSchedulerProvider;
+    private final ScheduleActivityTracker activityTracker;
     private final UserGroupRepository userGroupRepository;
     private final DateRepository dateRepository;
     private final GroupSlotRepository groupSlotRepository;
+    private final GroupDateSummaryRepository groupDateSummaryRepository;
 
+    /**
+     * 그룹원 확인
+     * 그룹원이 아니면 버전(ETag)으로 그룹의 변경 여부도 알 수 없도록 버전 조회 전에 호출한다.
+     * @param groupId
+     * @param requesterUserId
+     */
+    public void checkGroupMember(Long groupId, Long requesterUserId) {
+        if(!userGroupRepository.existsByGroupIdAndUserId(groupId, requesterUserId)) {
+            throw new AccessDeniedException("그룹원 외 접근 불가");
+        }
+    }
 
-    @Transactional(readOnly = true)
-    public List<DateDtoForMonth> getDatesForMonthInGroup(Long groupId, int year, int month, Long requesterUserId) {
+    /**
+     * 그룹 한달 뷰 버전 조회 (하루 뷰도 같은 달의 버전을 사용)
+     * checkGroupMember 로 그룹원 확인 후 호출
+     * @param groupId
+     * @param year
+     * @param month
+     * @return Redis 장애로 버전을 알 수 없으면 empty
+     */
+    public OptionalLong getGroupMonthVersion(Long groupId, int year, int month) {
+        return groupSchedulerProvider.getGroupVersion(groupId, year, month);
+    }
+
+    /**
+     * 그룹 한달 데이터 조회
+     * 캐시 조회 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행하고, DB 조회는 repository 호출 단위로 실행된다.
+     * @param groupId
+     * @param year
+     * @param month
+     * @param requesterUserId
+     * @param version 조회 전에 읽은 한달 뷰 버전 (getGroupMonthVersion)
+     * @return 일정과 ETag 로 사용할 그 일정의 버전
+     */
+    public Versioned<List<DateDtoForMonth>> getDatesForMonthInGroup(Long groupId, int year, int month, Long requesterUserId,
+                                                                    OptionalLong version) {
         //인증 조회
         if(!userGroupRepository.existsByGroupIdAndUserId(groupId,requesterUserId)) {
             throw new AccessDeniedException("그룹원 외 접근 불가");
         }
-        //이번 달을 조회 한 경우
-        boolean isCurrentMonth = year == LocalDate.now().getYear() && month == LocalDate.now().getMonthValue();
-        //다음 달을 조회 한 경우
-        boolean isNextMonth = year == LocalDate.now().getYear() && month == LocalDate.now().getMonthValue()+1;
-        //캐시 존재 && 이번 달 혹은 다음 달 인 경우
-        if ((isCurrentMonth || isNextMonth)) {
-            List<DateDtoForMonth> cachedSchedule = groupSchedulerProvider.getGroupSchedule(groupId, year, month);
-            if (!cachedSchedule.isEmpty()) return cachedSchedule;
+        //다음 달 캐시 미리 채우기 대상으로 기록
+        activityTracker.recordGroup(groupId);
+        //캐시 정책 범위 안의 달인 경우 캐시 조회, 없으면 동시 요청 중 하나만 DB 조회 후 캐싱
+        if (groupSchedulerProvider.isCacheableMonth(ScheduleFamily.GROUP, year, month)) {
+            return groupSchedulerProvider.loadGroupSchedule(groupId, year, month, version,
+                    () -> findGroupMonthDto(year, month, groupId));
         }
-        //DB 조회
-        List<Date> dateByMonth = findGroupDataByMonth(year, month, groupId);
-        //dto 작성
-        List<DateDtoForMonth> monthDateDto = dateByMonth.stream()
-                .map(DateInGroupService::getMonthDataToDtoLimit2)
+        return Versioned.of(findGroupMonthDto(year, month, groupId), version);
+    }
+
+    /**
+     * DB 조회 -> 날짜별 요약 테이블 (최대 31 row)
+     * 권한 확인 없이 조회하므로 캐시 적재에만 사용
+     * @param year
+     * @param month
+     * @param groupId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<DateDtoForMonth> findGroupMonthDto(int year, int month, Long groupId) {
+        return findGroupSummaryByMonth(year, month, groupId).stream()
+                .map(DateInGroupService::getSummaryToDto)
+                .toList();
+    }
+
+    /**
+     * 그룹 데이터를 여러 달 단위로 요청
+     * 범위는 최대 12개월이므로 한번의 범위 쿼리로 모두 읽고, 응답 작성 전에 커넥션을 반환한다.
+     * @param groupId
+     * @param from
+     * @param to
+     * @param requesterUserId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<DateDtoForMonth> getGroupDatesForRange(Long groupId, YearMonth from, YearMonth to, Long requesterUserId) {
+        checkMonthRange(from, to);
+        checkGroupMember(groupId, requesterUserId);
+        LocalDate startDate = from.atDay(1); // 시작 월의 첫째 날
+        LocalDate endDate = to.plusMonths(1).atDay(1); // 마지막 월의 다음 달 첫째 날
+        return groupDateSummaryRepository.findByGroupIdAndMonthRange(groupId, startDate, endDate).stream()
+                .map(DateInGroupService::getSummaryToDto)
                 .toList();
-        if ((isCurrentMonth || isNextMonth) && !monthDateDto.isEmpty() ) {
-            groupSchedulerProvider.saveGroupScheduler(groupId, monthDateDto, year, month);
+    }
+
+    /**
+     * 범위 조회는 최대 12개월 까지 허용
+     * @param from
+     * @param to
+     */
+    public static void checkMonthRange(YearMonth from, YearMonth to) {
+        if (from.isAfter(to) || from.plusMonths(MAX_RANGE_MONTHS - 1).isBefore(to)) {
+            throw new DateTimeException("조회 범위를 확인해주세요");
         }
-        return monthDateDto;
     }
 
     @Transactional(readOnly = true)
-    private List<Date> findGroupDataByMonth(int year, int month, Long groupId) {
+    private List<GroupDateSummary> findGroupSummaryByMonth(int year, int month, Long groupId) {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1); // 해당 월의 첫째 날
         LocalDate endDate = yearMonth.plusMonths(1).atDay(1); // 해당 월의 마지막 날
 
-        // startDate ~ endDate 전날 까지 Date 모두 조회
-        return dateRepository.findScheduleDateWithSlotsByGroupAndMonthRange(groupId, startDate, endDate);
+        // startDate ~ endDate 전날 까지 요약 모두 조회
+        return groupDateSummaryRepository.findByGroupIdAndMonthRange(groupId, startDate, endDate);
     }
 
     /**
-     * 그룹 슬롯 하루 데이터 조회
+     * 그룹 슬롯 하루 데이터 조회, 한달 조회와 같이 트랜잭션 없이 실행
      * @param groupId
      * @param year
      * @param month
      * @param day
      * @param requestUserId
+     * @param version 조회 전에 읽은 한달 뷰 버전, 하루 캐시는 이 버전의 key 에서 읽고 저장한다.
      * @return
      */
-    @Transactional(readOnly = true)
-    public DateDtoForDay findGroupDataByDayInGroup(Long groupId, int year, int month, int day, Long requestUserId) {
-        if(userGroupRepository.existsByGroupIdAndUserId(groupId,requestUserId)) {
-            //요청한 날자
-            LocalDate localDate = LocalDate.of(year,month,day);
-            //선택한 date 조회
-            Optional<Date> optionalDate = dateRepository.findByGroupIdAndDay(groupId, localDate);
-
-            if (optionalDate.isPresent()) {
-                log.info("optionalDate.isPresent()");
-                return findAllUserDate(optionalDate.get());
-            }
-            return new DateDtoForDay();
+    public DateDtoForDay findGroupDataByDayInGroup(Long groupId, int year, int month, int day, Long requestUserId, OptionalLong version) {
+        //요청한 날자
+        LocalDate localDate = LocalDate.of(year,month,day);
+        //캐시 존재 시 그룹원 확인만 진행
+        DateDtoForDay cachedDay = groupSchedulerProvider.getGroupDaySchedule(groupId, localDate, version);
+        if (cachedDay != null) {
+            if (userGroupRepository.existsByGroupIdAndUserId(groupId, requestUserId)) return cachedDay;
+            throw new AccessDeniedException("그룹원 외 접근 불가");
         }
-        throw new AccessDeniedException("그룹원 외 접근 불가");
-    }
-
-    @Transactional(readOnly = true)
-    private DateDtoForDay findAllUserDate(Date date) {
-        // 해당 date의 slotmember, usergroup 조회
-        List<SlotDtoForDay> slotDtoForDayList = groupSlotRepository.findByGroupIdAndDay(date.getId());
-
-        return DateDtoForDay.builder()
-                .slotCount(date.getSlotCount())
-                .today(date.getStartDate())
-                .slotInfo(slotDtoForDayList)
-                .build();
+        //DB 조회 -> 그룹원 확인 + 하루 slot 조회를 한번에
+        DateDtoForDay dateDtoForDay = groupSlotRepository.findDayViewByMember(groupId, requestUserId, localDate)
+                .orElseThrow(() -> new AccessDeniedException("그룹원 외 접근 불가"));
+        //하루 캐시 저장, 슬롯 변경으로 버전이 오르면 더 조회되지 않음
+        groupSchedulerProvider.saveGroupDaySchedule(groupId, dateDtoForDay, localDate, version);
+        return dateDtoForDay;
     }
 
+    /**
+     * date 에서 슬롯 제거 후 요약 갱신, 마지막 슬롯이면 date 와 요약 삭제
+     * @param date
+     * @param groupSlot
+     * @return 갱신된 요약, date 가 삭제된 경우 empty
+     */
     @Transactional
-    public void deleteGroupSlotFromDate(Date date, GroupSlot groupSlot) {
+    public Optional<GroupDateSummary> deleteGroupSlotFromDate(Date date, GroupSlot groupSlot) {
         if (date.getSlotCount() <= 1) {
+            groupDateSummaryRepository.deleteByGroupIdAndStartDate(date.getGroup().getId(), date.getStartDate());
             dateRepository.delete(date);
-            return ;
+            return Optional.empty();
         }
         date.removeGroupSlot(groupSlot);
+        return Optional.of(refreshDateSummary(date));
     }
 
     /**
-     * date에 있는 slot을 2개만 가져오는 로직
+     * 슬롯 변경 후 해당 date의 요약(슬롯 수, 상위 2개 슬롯) 갱신
+     * 슬롯을 변경한 트랜잭션 안에서 호출되어야 한다.
      * @param date
-     * @return
+     * @return 갱신된 요약
      */
-    public static DateDtoForMonth getMonthDataToDtoLimit2(Date date) {
-        //상위 2개의 데이터만 추출
-        List<SlotDtoForMonth> top2Slots = new ArrayList<>();
-        if (date.getUser() == null && date.getGroup() != null) {
-            top2Slots = date.getGroupSlot().stream()
-                    .sorted(Comparator.comparingInt((GroupSlot s) -> s.getImportance().getPriority()).reversed())
-                    .limit(2)
-                    .map(DateInGroupService::getGroupSlotInfoToDto)
-                    .toList();
-        } else if(date.getUser() != null && date.getGroup() == null) {
-            top2Slots = date.getUserSlot().stream()
-                    .sorted(Comparator.comparingInt((UserSlot s) -> s.getImportance().getPriority()).reversed())
-                    .limit(2)
-                    .map(DateInGroupService::getUserSlotInfoToDto)
-                    .toList();
-        }
-        return DateDtoForMonth.builder()
-                .slotCount(date.getSlotCount())
-                .today(date.getStartDate())
-                .slotInfo(
-                        top2Slots
-                )
-                .build();
+    @Transactional
+    public GroupDateSummary refreshDateSummary(Date date) {
+        Long groupId = date.getGroup().getId();
+        GroupDateSummary summary = groupDateSummaryRepository.findByGroupIdAndStartDate(groupId, date.getStartDate())
+                .orElseGet(() -> new GroupDateSummary(groupId, date.getStartDate()));
+        List<GroupSlot> top2Slots = date.getGroupSlot().stream()
+                .sorted(Comparator.comparingInt((GroupSlot s) -> s.getImportance().getPriority()).reversed())
+                .limit(2)
+                .toList();
+        summary.refresh(date.getSlotCount(), top2Slots);
+        return groupDateSummaryRepository.save(summary);
     }
 
-    private static SlotDtoForMonth getGroupSlotInfoToDto(GroupSlot groupSlot) {
-
-        return SlotDtoForMonth.builder()
-                .groupId(groupSlot.getDate().getGroup().getId())
-                .slotId(groupSlot.getId())
-                .title(groupSlot.getTitle())
-                .startTime(groupSlot.getStartTime())
-                .importance(groupSlot.getImportance())
-                .build();
+    /**
+     * 여러 date 의 요약을 한번에 갱신, 요약 초기화에서 페이지 단위로 호출
+     * @param dateIds
+     */
+    @Transactional
+    public void refreshDateSummaries(List<Long> dateIds) {
+        dateRepository.findGroupDateWithSlotsByIds(dateIds).forEach(this::refreshDateSummary);
     }
 
-    private static SlotDtoForMonth getUserSlotInfoToDto(UserSlot userSlot) {
-
-        return SlotDtoForMonth.builder()
-                .slotId(userSlot.getId())
-                .title(userSlot.getTitle())
-                .startTime(userSlot.getStartTime())
-                .importance(userSlot.getImportance())
+    /**
+     * 날짜별 요약을 한달 dto로 변환
+     * @param summary
+     * @return
+     */
+    public static DateDtoForMonth getSummaryToDto(GroupDateSummary summary) {
+        List<SlotDtoForMonth> top2Slots = new ArrayList<>(2);
+        if (summary.getFirstSlotId() != null) {
+            top2Slots.add(new SlotDtoForMonth(summary.getGroupId(), summary.getFirstSlotId(), summary.getFirstTitle(),
+                    summary.getFirstStartTime(), summary.getFirstImportance()));
+        }
+        if (summary.getSecondSlotId() != null) {
+            top2Slots.add(new SlotDtoForMonth(summary.getGroupId(), summary.getSecondSlotId(), summary.getSecondTitle(),
+                    summary.getSecondStartTime(), summary.getSecondImportance()));
+        }
+        return DateDtoForMonth.builder()
+                .slotCount(summary.getSlotCount())
+                .today(summary.getStartDate())
+                .slotInfo(top2Slots)
                 .build();
     }
 }
\ No newline at end of file
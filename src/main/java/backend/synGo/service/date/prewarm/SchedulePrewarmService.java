@@ -0,0 +1,149 @@
+package backend.synGo.service.date.prewarm;
+
+import backend.synGo.config.scheduler.GroupSchedulerProvider;
+import backend.synGo.config.scheduler.ScheduleActivityTracker;
+import backend.synGo.config.scheduler.ScheduleFamily;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.service.date.group.DateInGroupService;
+import backend.synGo.service.date.user.DateUserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 달이 바뀌기 직전에 최근 조회한 그룹, 유저의 다음 달 캐시를 미리 채운다.
+ * 0시에 모든 한달 캐시가 비어 DB 로 몰리는 것을 막기 위한 작업으로, 적재 자체가 DB 에 부하를 주지 않도록
+ * 초당 rate-per-second 건으로 제한하고 max-run-minutes 를 넘기면 남은 대상은 건너뛴다.
+ * 여러 서버 중 lock 을 잡은 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "security.scheduler.prewarm.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulePrewarmService {
+
+    private final GroupSchedulerProvider groupSchedulerProvider;
+    private final ScheduleActivityTracker activityTracker;
+    private final DateInGroupService dateInGroupService;
+    private final DateUserService dateUserService;
+    private final Duration activeWindow;
+    private final int maxOwners;
+    private final long intervalNanos;
+    private final Duration maxRun;
+
+    public SchedulePrewarmService(
+            GroupSchedulerProvider groupSchedulerProvider,
+            ScheduleActivityTracker activityTracker,
+            DateInGroupService dateInGroupService,
+            DateUserService dateUserService,
+            @Value("${security.scheduler.prewarm.active-days:7}") long activeDays,
+            @Value("${security.scheduler.prewarm.max-owners:5000}") int maxOwners,
+            @Value("${security.scheduler.prewarm.rate-per-second:20}") int ratePerSecond,
+            @Value("${security.scheduler.prewarm.max-run-minutes:8}") long maxRunMinutes) {
+        this.groupSchedulerProvider = groupSchedulerProvider;
+        this.activityTracker = activityTracker;
+        this.dateInGroupService = dateInGroupService;
+        this.dateUserService = dateUserService;
+        this.activeWindow = Duration.ofDays(activeDays);
+        this.maxOwners = maxOwners;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        this.maxRun = Duration.ofMinutes(maxRunMinutes);
+    }
+
+    /**
+     * 기본값은 매달 마지막 날 23:50 실행
+     */
+    @Scheduled(cron = "${security.scheduler.prewarm.cron:0 50 23 L * *}")
+    public void prewarmNextMonth() {
+        YearMonth nextMonth = YearMonth.now().plusMonths(1);
+        if (!activityTracker.tryAcquireJob("PREWARM:" + nextMonth, maxRun.plusMinutes(1))) {
+            log.info("다른 서버에서 캐시 미리 채우기 진행 중 month={}", nextMonth);
+            return;
+        }
+        prewarm(nextMonth);
+    }
+
+    /**
+     * 그룹 캐시를 먼저 채우고(여러 그룹원이 함께 조회) 남은 시간 동안 유저 캐시를 채운다.
+     * @param yearMonth
+     * @return 저장한 캐시 수
+     */
+    public int prewarm(YearMonth yearMonth) {
+        int year = yearMonth.getYear();
+        int month = yearMonth.getMonthValue();
+        Pacer pacer = new Pacer(intervalNanos, System.nanoTime() + maxRun.toNanos());
+        int saved = 0;
+
+        for (Long groupId : activityTracker.findActiveGroups(activeWindow, maxOwners)) {
+            if (!pacer.acquire()) return stopped(yearMonth, saved);
+            saved += prewarm(ScheduleFamily.GROUP, groupId, yearMonth,
+                    () -> dateInGroupService.findGroupMonthDto(year, month, groupId));
+        }
+        for (Long userId : activityTracker.findActiveUsers(activeWindow, maxOwners)) {
+            if (!pacer.acquire()) return stopped(yearMonth, saved);
+            saved += prewarm(ScheduleFamily.MY, userId, yearMonth,
+                    () -> dateUserService.findUserDataByMonth(year, month, userId));
+            if (!pacer.acquire()) return stopped(yearMonth, saved);
+            saved += prewarm(ScheduleFamily.MY_GROUP, userId, yearMonth,
+                    () -> dateUserService.findUserGroupsDataByMonth(year, month, userId));
+        }
+        log.info("캐시 미리 채우기 완료 month={}, saved={}", yearMonth, saved);
+        return saved;
+    }
+
+    private int prewarm(ScheduleFamily family, Long ownerId, YearMonth yearMonth, Supplier<List<DateDtoForMonth>> loader) {
+        try {
+            //일정이 없는 달도 빈 달로 저장
+            groupSchedulerProvider.prewarmSchedule(family, ownerId, yearMonth, loader);
+            return 1;
+        } catch (RuntimeException e) {
+            //한 대상의 실패가 나머지 적재를 막지 않도록 로그만 남김
+            log.warn("캐시 미리 채우기 실패 family={}, ownerId={}, month={}", family, ownerId, yearMonth, e);
+            return 0;
+        }
+    }
+
+    private int stopped(YearMonth yearMonth, int saved) {
+        log.warn("캐시 미리 채우기 시간 초과로 중단 month={}, saved={}", yearMonth, saved);
+        return saved;
+    }
+
+    /**
+     * 호출 간격을 interval 이상으로 맞추고 deadline 이 지나면 false
+     */
+    static final class Pacer {
+
+        private final long intervalNanos;
+        private final long deadlineNanos;
+        private long nextNanos;
+
+        Pacer(long intervalNanos, long deadlineNanos) {
+            this.intervalNanos = intervalNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.nextNanos = System.nanoTime();
+        }
+
+        boolean acquire() {
+            long waitNanos = nextNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            long now = System.nanoTime();
+            if (now - deadlineNanos >= 0) return false;
+            nextNanos = Math.max(nextNanos, now) + intervalNanos;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package backend.synGo.service.date.user;
+
+import backend.synGo.form.SlotDtoForDay;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 시작 시간 순으로 정렬된 슬롯 조회 결과를 필요할 때마다 pageSize 만큼 이어서 읽는 커서
+ * 마지막으로 읽은 (startTime, slotId) 이후를 다음 페이지로 조회하므로 offset 없이 이어진다.
+ */
+class AgendaCursor {
+
+    @FunctionalInterface
+    interface PageLoader {
+        List<SlotDtoForDay> load(LocalDateTime afterTime, Long afterSlotId, int size);
+    }
+
+    private final PageLoader loader;
+    private final int pageSize;
+
+    private Iterator<SlotDtoForDay> page = Collections.emptyIterator();
+    private LocalDateTime afterTime;
+    private Long afterSlotId;
+    private boolean lastPage;
+    private SlotDtoForDay head;
+
+    /**
+     * @param loader
+     * @param from 조회 시작 시간 (포함)
+     * @param pageSize
+     */
+    AgendaCursor(PageLoader loader, LocalDateTime from, int pageSize) {
+        this.loader = loader;
+        this.pageSize = pageSize;
+        this.afterTime = from;
+        this.afterSlotId = -1L; // from과 같은 시작 시간도 포함
+    }
+
+    /**
+     * 다음 슬롯을 꺼내지 않고 확인, 남은 슬롯이 없으면 null
+     * @return
+     */
+    SlotDtoForDay peek() {
+        if (head == null) head = fetch();
+        return head;
+    }
+
+    SlotDtoForDay next() {
+        SlotDtoForDay slot = peek();
+        head = null;
+        return slot;
+    }
+
+    private SlotDtoForDay fetch() {
+        if (!page.hasNext()) {
+            if (lastPage) return null;
+            List<SlotDtoForDay> slots = loader.load(afterTime, afterSlotId, pageSize);
+            lastPage = slots.size() < pageSize;
+            page = slots.iterator();
+            if (!page.hasNext()) return null;
+        }
+        SlotDtoForDay slot = page.next();
+        afterTime = slot.getStartTime();
+        afterSlotId = slot.getSlotId();
+        return slot;
+    }
+}
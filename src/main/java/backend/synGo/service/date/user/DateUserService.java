@@ -1,8 +1,11 @@
 package backend.synGo.service.date.user;
 
+import backend.synGo.config.scheduler.CachedMonth;
 import backend.synGo.config.scheduler.GroupSchedulerProvider;
+import backend.synGo.config.scheduler.ScheduleActivityTracker;
+import backend.synGo.config.scheduler.ScheduleFamily;
+import backend.synGo.config.scheduler.Versioned;
 import backend.synGo.domain.date.Date;
-import backend.synGo.domain.slot.GroupSlot;
 import backend.synGo.domain.slot.UserSlot;
 import backend.synGo.domain.userGroupData.UserGroup;
 import backend.synGo.form.DateDtoForDay;
@@ -13,55 +16,87 @@ import backend.synGo.repository.DateRepository;
 import backend.synGo.repository.GroupSlotRepository;
 import backend.synGo.repository.UserGroupRepository;
 import backend.synGo.repository.UserSlotRepository;
-import backend.synGo.service.date.group.DateInGroupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.List;
 
+import static backend.synGo.service.date.group.DateInGroupService.checkMonthRange;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DateUserService {
 
     private final GroupSchedulerProvider groupSchedulerProvider;
+    private final ScheduleActivityTracker activityTracker;
     private final UserGroupRepository userGroupRepository;
     private final DateRepository dateRepository;
     private final GroupSlotRepository groupSlotRepository;
+    private final UserSlotRepository userSlotRepository;
+
+    // agenda 조회 시 한번에 읽을 수 있는 최대 슬롯 수, 기간 미지정 시 조회 범위
+    public static final int MAX_AGENDA_LIMIT = 200;
+    public static final int AGENDA_HORIZON_MONTHS = 12;
+    private static final int AGENDA_PAGE_SIZE = 50;
+
+    /**
+     * 유저의 개인 한달 뷰 버전 조회 (하루 뷰도 같은 달의 버전을 사용)
+     * @param year
+     * @param month
+     * @param requestUserId
+     * @return Redis 장애로 버전을 알 수 없으면 empty
+     */
+    public OptionalLong getUserMonthVersion(int year, int month, Long requestUserId) {
+        return groupSchedulerProvider.getMyVersion(requestUserId, year, month);
+    }
 
     /**
      * 유저의 개인 데이터 한달 단위로 가져오는 서비스
+     * 캐시 조회 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (DB 조회는 repository 호출 단위)
      * @param year
      * @param month
      * @param requestUserId
-     * @return
+     * @param version 조회 전에 읽은 한달 뷰 버전 (getUserMonthVersion)
+     * @return 일정과 ETag 로 사용할 그 일정의 버전
      */
-    @Transactional(readOnly = true)
-    public List<DateDtoForMonth> getUserDataDatesForMonth(int year, int month, Long requestUserId) {
-        //이번 달을 조회 한 경우
-        boolean isCurrentMonth = year == LocalDate.now().getYear() && month == LocalDate.now().getMonthValue();
-        //캐시 존재 && 이번 달 인 경우
-        if (isCurrentMonth) {
-            List<DateDtoForMonth> cachedSchedule = groupSchedulerProvider.getMySchedule(requestUserId, year, month);
-            if (!cachedSchedule.isEmpty()) return cachedSchedule;
+    public Versioned<List<DateDtoForMonth>> getUserDataDatesForMonth(int year, int month, Long requestUserId, OptionalLong version) {
+        //다음 달 캐시 미리 채우기 대상으로 기록
+        activityTracker.recordUser(requestUserId);
+        //캐시 정책 범위 안의 달인 경우 캐시 조회
+        boolean isCacheable = groupSchedulerProvider.isCacheableMonth(ScheduleFamily.MY, year, month);
+        if (isCacheable) {
+            //일정이 없는 달로 캐싱된 경우도 DB 조회 없이 반환
+            CachedMonth cached = groupSchedulerProvider.getMySchedule(requestUserId, year, month, version);
+            if (!cached.isMiss()) return Versioned.of(cached.getSchedule(), cached.getVersion());
         }
-        //DB 조회
-        List<Date> dateByMonth = findUserDataByMonth(year, month, requestUserId);
-        //dto 작성
-        List<DateDtoForMonth> monthDateDto = dateByMonth.stream()
-                .map(DateInGroupService::getMonthDataToDtoLimit2)
-                .toList();
+        //DB 조회 -> date 별 중요도 상위 2개 슬롯만 조회
+        List<DateDtoForMonth> monthDateDto = findUserDataByMonth(year, month, requestUserId);
 
-        if (isCurrentMonth && !monthDateDto.isEmpty() ) {
-            groupSchedulerProvider.saveMyScheduler(requestUserId, monthDateDto, year, month);
+        //저장 여부와 TTL 은 캐시 정책에서 결정, 일정이 없는 달도 저장 (조회 중 버전이 바뀌면 저장하지 않음)
+        if (isCacheable) {
+            groupSchedulerProvider.saveMyScheduler(requestUserId, monthDateDto, year, month, version);
         }
-        return monthDateDto;
+        return Versioned.of(monthDateDto, version);
+    }
+
+    /**
+     * 유저의 개인 데이터 하루 단위로 db 요청, 슬롯 변경 후 한달 캐시의 하루를 교체할 때 사용
+     * @param day
+     * @param requestUserId
+     * @return 슬롯이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public DateDtoForMonth findUserDataByDay(LocalDate day, Long requestUserId) {
+        List<DateDtoForMonth> dayDto = dateRepository.findUserMonthTop2(requestUserId, day, day.plusDays(1));
+        return dayDto.isEmpty() ? null : dayDto.get(0);
     }
 
     /**
@@ -72,163 +107,202 @@ public class DateUserService {
      * @return
      */
     @Transactional(readOnly = true)
-    private List<Date> findUserDataByMonth(int year, int month, Long requestUserId) {
+    public List<DateDtoForMonth> findUserDataByMonth(int year, int month, Long requestUserId) {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1); // 해당 월의 첫째 날
         LocalDate endDate = yearMonth.plusMonths(1).atDay(1); // 해당 월의 마지막 날
 
-        // startDate ~ endDate 전날 까지 Date 모두 조회
-        return dateRepository.findAllUserDataByMonthRange(requestUserId, startDate, endDate);
+        // startDate ~ endDate 전날 까지 date 별 상위 2개 슬롯 조회
+        return dateRepository.findUserMonthTop2(requestUserId, startDate, endDate);
+    }
+
+    /**
+     * 유저의 개인 데이터를 여러 달 단위로 db 요청
+     * 범위는 최대 12개월이므로 한번의 범위 쿼리로 모두 읽고, 응답 작성 전에 커넥션을 반환한다.
+     * @param from
+     * @param to
+     * @param requestUserId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<DateDtoForMonth> getUserDataDatesForRange(YearMonth from, YearMonth to, Long requestUserId) {
+        checkMonthRange(from, to);
+        LocalDate startDate = from.atDay(1); // 시작 월의 첫째 날
+        LocalDate endDate = to.plusMonths(1).atDay(1); // 마지막 월의 다음 달 첫째 날
+        return dateRepository.findUserMonthTop2(requestUserId, startDate, endDate);
     }
 
     /**
      * 유저의 그룹 데이터 한달 단위로 요청
+     * 캐시 조회 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (DB 조회는 repository 호출 단위)
      * @param year
      * @param month
      * @param requestUserId
      * @return
      */
-    @Transactional(readOnly = true)
     public List<DateDtoForMonth> getUserDataDatesForMonthByGroup(int year, int month, Long requestUserId) {
-        //이번 달을 조회 한 경우
-        boolean isCurrentMonth = year == LocalDate.now().getYear() && month == LocalDate.now().getMonthValue();
-        //캐시 존재 && 이번 달 인 경우
-        if (isCurrentMonth) {
-            List<DateDtoForMonth> cachedSchedule = groupSchedulerProvider.getMyGroupSchedule(requestUserId, year, month);
-            if (!cachedSchedule.isEmpty()) return cachedSchedule;
+        //다음 달 캐시 미리 채우기 대상으로 기록
+        activityTracker.recordUser(requestUserId);
+        //캐시 정책 범위 안의 달인 경우 캐시 조회
+        boolean isCacheable = groupSchedulerProvider.isCacheableMonth(ScheduleFamily.MY_GROUP, year, month);
+        if (isCacheable) {
+            //일정이 없는 달로 캐싱된 경우도 DB 조회 없이 반환
+            CachedMonth cached = groupSchedulerProvider.getMyGroupSchedule(requestUserId, year, month);
+            if (!cached.isMiss()) return cached.getSchedule();
         }
-        YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1); // 해당 월의 첫째 날
-        LocalDate endDate = yearMonth.plusMonths(1).atDay(1); // 해당 월의 마지막 날
-        //userGroup -> group -> date 까지 조회
-        List<UserGroup> userGroups = userGroupRepository.findUserGroupDataByUserIdForMonth(requestUserId, startDate, endDate);
-        if (userGroups.isEmpty()) return new ArrayList<>();
-        //date -> groupSlot 조회 및 데이터 추출
-        List<Date> dateByMonth = findUserDataByGroup(userGroups);
-        //dto 작성
-        List<DateDtoForMonth> monthDateInfo = dateByMonth.stream()
-                .map(DateUserService::getDateInfoToDtoGroupVer)
-                .toList();
-        //dto 정렬 -> date의 today로 정렬
-        List<DateDtoForMonth> monthArrayDateInfo = sortMonthDateInfoGroupVerForToday(monthDateInfo);
-        //오늘 인 경우 캐싱
-        if (isCurrentMonth && !monthArrayDateInfo.isEmpty()) {
+        List<DateDtoForMonth> monthArrayDateInfo = findUserGroupsDataByMonth(year, month, requestUserId);
+        //저장 여부와 TTL 은 캐시 정책에서 결정, 일정이 없는 달도 저장
+        if (isCacheable) {
             groupSchedulerProvider.saveMyGroupScheduler(requestUserId, monthArrayDateInfo, year, month);
         }
         return monthArrayDateInfo;
     }
 
-    @Transactional
-    public void deleteUserSlotFromDate(Date date, UserSlot userSlot) {
-        if (date.getSlotCount() <= 1) {
-            dateRepository.delete(date);
-            return ;
-        }
-        date.removeUserSlot(userSlot);
-    }
-
     /**
-     * dto 정렬 -> date의 today로 정렬
-     * @param monthDateInfo
-     * @return
+     * 유저가 속한 모든 그룹의 데이터 한달 단위로 db 요청
+     * @param year
+     * @param month
+     * @param requestUserId
+     * @return 날짜 별로 병합된 결과
      */
-    private static List<DateDtoForMonth> sortMonthDateInfoGroupVerForToday(List<DateDtoForMonth> monthDateInfo) {
-        return monthDateInfo.stream()
-                .collect(Collectors.groupingBy(
-                        DateDtoForMonth::getToday,
-                        // 초기값은 빈 MonthDateInfoGroupVer
-                        // 스트림에서 받은 값 m은 따로 가공하지 않고 그대로 사용 (m -> m)
-                        // 동일한 날짜(today)에 해당하는 값들끼리 mergeDateInfos()로 병합
-                        Collectors.reducing(
-                                new DateDtoForMonth(0, null, new ArrayList<>()),
-                                m -> m,
-                                DateUserService::mergeDateInfos
-                        )
-                ))
-                .values()
-                .stream()
-                .toList();
+    @Transactional(readOnly = true)
+    public List<DateDtoForMonth> findUserGroupsDataByMonth(int year, int month, Long requestUserId) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDate startDate = yearMonth.atDay(1); // 해당 월의 첫째 날
+        LocalDate endDate = yearMonth.plusMonths(1).atDay(1); // 해당 월의 마지막 날
+        //유저가 속한 모든 그룹의 date 별 중요도 상위 2개 슬롯 조회 (날짜 순 정렬)
+        List<DateDtoForMonth> monthDateInfo = dateRepository.findUserGroupsMonthTop2(requestUserId, startDate, endDate);
+        //같은 날짜끼리 한번에 병합
+        return mergeDateInfoForToday(monthDateInfo);
     }
 
     /**
-     * date의 한달간 today 정렬 병합 메서드
-     * @param m1
-     * @param m2
+     * 개인 슬롯과 유저가 속한 모든 그룹의 슬롯을 시작 시간 순으로 병합한 agenda 조회
+     * 개인 슬롯과 모든 그룹 슬롯은 각각 (시작 시간, id) 순 keyset 커서 하나이며 힙으로 병합해 limit 개만 읽는다.
+     * to가 없으면 from 부터 AGENDA_HORIZON_MONTHS 개월 이내의 다음 limit 개 일정을 반환한다.
+     * @param from
+     * @param to
+     * @param limit
+     * @param requestUserId
      * @return
      */
-    private static DateDtoForMonth mergeDateInfos(DateDtoForMonth m1, DateDtoForMonth m2) {
-        int totalSlotCount = m1.getSlotCount() + m2.getSlotCount();
-        LocalDate today = m1.getToday() != null ? m1.getToday() : m2.getToday();
-
-        List<SlotDtoForMonth> mergedSlots = new ArrayList<>();
-        mergedSlots.addAll(m1.getSlotInfo());
-        mergedSlots.addAll(m2.getSlotInfo());
-
-        // 중요도 순 정렬 후 상위 2개 선택
-        List<SlotDtoForMonth> top2Slots = mergedSlots.stream()
-                .sorted(Comparator.comparingInt((SlotDtoForMonth s) -> s.getImportance().getPriority()).reversed())
-                .limit(2)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<SlotDtoForDay> getAgenda(LocalDateTime from, LocalDateTime to, int limit, Long requestUserId) {
+        LocalDateTime endTime = (to != null) ? to : from.plusMonths(AGENDA_HORIZON_MONTHS);
+        checkAgendaRange(from, endTime, limit);
+        // 출처마다 limit 개 이상은 필요하지 않으므로 페이지 크기를 limit 으로 제한
+        int pageSize = Math.min(limit, AGENDA_PAGE_SIZE);
 
-        return DateDtoForMonth.builder()
-                .slotCount(totalSlotCount)
-                .today(today)
-                .slotInfo(top2Slots)
-                .build();
+        List<AgendaCursor> cursors = new ArrayList<>();
+        cursors.add(new AgendaCursor((afterTime, afterSlotId, size) ->
+                userSlotRepository.findUserSlotsAfter(requestUserId, afterTime, afterSlotId, endTime, size), from, pageSize));
+        //그룹 수와 관계없이 그룹 슬롯은 한번의 keyset 쿼리로 페이지 단위 조회
+        List<Long> groupIds = userGroupRepository.findGroupIdsByUserId(requestUserId);
+        if (!groupIds.isEmpty()) {
+            cursors.add(new AgendaCursor((afterTime, afterSlotId, size) ->
+                    groupSlotRepository.findGroupSlotsAfter(groupIds, afterTime, afterSlotId, endTime, size), from, pageSize));
+        }
+        return mergeAgenda(cursors, limit);
     }
 
     /**
-     * 유저의 그룹내 해당 date에 반환을 위 dto 각 변환
-     * @param date
+     * 정렬된 커서들을 시작 시간 순으로 k-way 병합
+     * 힙에는 커서마다 현재 맨 앞 슬롯 하나만 유지된다.
+     * @param cursors
+     * @param limit
      * @return
      */
-    private static DateDtoForMonth getDateInfoToDtoGroupVer(Date date) {
-        List<SlotDtoForMonth> top2Slots = date.getGroupSlot().stream()
-                .map(DateUserService::getUserSlotInfoToDtoForGroup)
-                .toList();
+    static List<SlotDtoForDay> mergeAgenda(List<AgendaCursor> cursors, int limit) {
+        PriorityQueue<AgendaCursor> heap = new PriorityQueue<>(Math.max(1, cursors.size()),
+                Comparator.comparing((AgendaCursor cursor) -> cursor.peek().getStartTime())
+                        .thenComparing(cursor -> cursor.peek().getGroupId(), Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+                        .thenComparing(cursor -> cursor.peek().getSlotId()));
+        for (AgendaCursor cursor : cursors) {
+            if (cursor.peek() != null) heap.add(cursor);
+        }
 
-        return DateDtoForMonth.builder()
-                .slotCount(date.getSlotCount())
-                .today(date.getStartDate())
-                .slotInfo(top2Slots)
-                .build();
+        List<SlotDtoForDay> agenda = new ArrayList<>(Math.min(limit, AGENDA_PAGE_SIZE));
+        while (agenda.size() < limit && !heap.isEmpty()) {
+            AgendaCursor cursor = heap.poll();
+            agenda.add(cursor.next());
+            if (cursor.peek() != null) heap.add(cursor);
+        }
+        return agenda;
     }
 
-    private static SlotDtoForMonth getUserSlotInfoToDtoForGroup(GroupSlot groupSlot) {
-        return SlotDtoForMonth.builder()
-                .groupId(groupSlot.getDate().getGroup().getId())
-                .slotId(groupSlot.getId())
-                .title(groupSlot.getTitle())
-                .startTime(groupSlot.getStartTime())
-                .importance(groupSlot.getImportance())
-                .build();
+    public static void checkAgendaRange(LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit < 1 || limit > MAX_AGENDA_LIMIT) {
+            throw new DateTimeException("조회 개수를 확인해주세요");
+        }
+        if (!from.isBefore(to) || from.plusMonths(AGENDA_HORIZON_MONTHS).isBefore(to)) {
+            throw new DateTimeException("조회 범위를 확인해주세요");
+        }
+    }
+
+    @Transactional
+    public void deleteUserSlotFromDate(Date date, UserSlot userSlot) {
+        if (date.getSlotCount() <= 1) {
+            dateRepository.delete(date);
+            return ;
+        }
+        date.removeUserSlot(userSlot);
     }
 
     /**
-     * 유저의 정보를 바탕으로 Date -> groupSlot db요청 후 mapping 및 유의미 한 데이터 추출
-     * @param userGroups
+     * 날짜 순으로 정렬된 그룹 date 정보를 같은 날짜끼리 한번에 병합
+     * 날짜 별로 슬롯 수는 합산하고 중요도 상위 2개 슬롯만 유지한다.
+     * @param monthDateInfo
      * @return
      */
-    @Transactional(readOnly = true)
-    private List<Date> findUserDataByGroup(List<UserGroup> userGroups) {
-        List<Date> allDates = userGroups.stream()
-                .flatMap(ug -> ug.getGroup().getDate().stream())
-                .toList();
-        if (allDates.isEmpty()) return List.of();
-        Map<Long, Date> dateMap = allDates.stream()
-                .collect(Collectors.toMap(Date::getId, d -> d));
-        List<GroupSlot> groupSlots = groupSlotRepository.findByDateIdIn(dateMap.keySet().stream().toList());
-        // slot을 해당 Date에 할당
-        groupSlots.forEach(slot -> {
-            Date date = dateMap.get(slot.getDate().getId());
-            if (date != null) {
-                date.getGroupSlot().add(slot);
+    private static List<DateDtoForMonth> mergeDateInfoForToday(List<DateDtoForMonth> monthDateInfo) {
+        List<DateDtoForMonth> result = new ArrayList<>();
+        DateTop2Accumulator accumulator = null;
+        for (DateDtoForMonth dateInfo : monthDateInfo) {
+            if (accumulator == null || !accumulator.today.equals(dateInfo.getToday())) {
+                if (accumulator != null) result.add(accumulator.toDto());
+                accumulator = new DateTop2Accumulator(dateInfo.getToday());
             }
-        });
-        // groupSlot이 비어있지 않은 date만 반환
-        return dateMap.values().stream()
-                .filter(d -> !d.getGroupSlot().isEmpty())
-                .toList();
+            accumulator.add(dateInfo);
+        }
+        if (accumulator != null) result.add(accumulator.toDto());
+        return result;
+    }
+
+    /**
+     * 하루 단위 병합용 누적기 -> 슬롯 수 합산, 중요도 상위 2개 슬롯만 보관
+     */
+    private static class DateTop2Accumulator {
+        private final LocalDate today;
+        private int slotCount;
+        private SlotDtoForMonth first;
+        private SlotDtoForMonth second;
+
+        private DateTop2Accumulator(LocalDate today) {
+            this.today = today;
+        }
+
+        private void add(DateDtoForMonth dateInfo) {
+            slotCount += dateInfo.getSlotCount();
+            for (SlotDtoForMonth slot : dateInfo.getSlotInfo()) {
+                if (first == null || priority(slot) > priority(first)) {
+                    second = first;
+                    first = slot;
+                } else if (second == null || priority(slot) > priority(second)) {
+                    second = slot;
+                }
+            }
+        }
+
+        private DateDtoForMonth toDto() {
+            List<SlotDtoForMonth> top2Slots = new ArrayList<>(2);
+            if (first != null) top2Slots.add(first);
+            if (second != null) top2Slots.add(second);
+            return new DateDtoForMonth(slotCount, today, top2Slots);
+        }
+
+        private static int priority(SlotDtoForMonth slot) {
+            return slot.getImportance() == null ? 0 : slot.getImportance().getPriority();
+        }
     }
 
      /**
@@ -249,7 +323,7 @@ public class DateUserService {
             log.info("optionalDate.isPresent()");
             return findAllUserDate(optionalDate.get());
         }
-        return new DateDtoForDay();
+        return DateDtoForDay.builder().build();
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,89 @@
+package backend.synGo.util;
+
+import backend.synGo.config.scheduler.ScheduleActivityTracker;
+import backend.synGo.repository.DateRepository;
+import backend.synGo.service.date.group.DateInGroupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요약이 없는 그룹 date 를 찾아 요약을 채운다.
+ * 요약이 없는 date 만 id 순으로 페이지를 나눠 페이지마다 별도 트랜잭션으로 갱신하므로, 중간에 중단되어도 다음 실행에서 남은 date 부터 이어서 채운다.
+ * 여러 서버가 동시에 시작하면 lock 을 얻은 서버만 실행하고, lock 없이 겹쳐 실행되어 같은 요약을 먼저 저장한 경우 그 페이지를 다시 조회해 남은 date 만 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupDateSummaryInitializer implements CommandLineRunner {
+    //한 트랜잭션에서 갱신할 date 수
+    private static final int PAGE_SIZE = 500;
+    private static final String JOB_NAME = "GROUP_DATE_SUMMARY";
+    //실행 중 서버가 종료되어 lock 이 남아도 이 시간 뒤에는 다른 서버가 이어서 실행
+    private static final Duration JOB_DURATION = Duration.ofMinutes(30);
+
+    private final DateRepository dateRepository;
+    private final DateInGroupService dateInGroupService;
+    private final ScheduleActivityTracker activityTracker;
+
+    @Override
+    public void run(String... args) {
+        boolean locked;
+        try {
+            if (!activityTracker.tryAcquireJob(JOB_NAME, JOB_DURATION)) {
+                log.info("다른 서버에서 그룹 date 요약 초기화 중");
+                return;
+            }
+            locked = true;
+        } catch (DataAccessException e) {
+            //Redis 장애로 시작이 막히지 않도록 lock 없이 실행, 겹쳐 실행되어도 요약이 없는 date 만 채운다.
+            log.warn("그룹 date 요약 초기화 lock 획득 실패, lock 없이 실행 {}", e.getMessage());
+            locked = false;
+        }
+        try {
+            initSummary();
+        } finally {
+            if (locked) releaseJob();
+        }
+    }
+
+    private void initSummary() {
+        int count = 0;
+        long lastId = 0L;
+        boolean retried = false;
+        List<Long> dateIds = dateRepository.findGroupDateIdsWithoutSummaryAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+        while (!dateIds.isEmpty()) {
+            try {
+                dateInGroupService.refreshDateSummaries(dateIds);
+                count += dateIds.size();
+                retried = false;
+                lastId = dateIds.get(dateIds.size() - 1);
+            } catch (DataIntegrityViolationException e) {
+                //다른 서버나 슬롯 생성이 같은 날짜의 요약을 먼저 저장함, 같은 페이지를 다시 조회하면 저장된 date 는 빠진다.
+                //다시 실패하면 이 페이지는 건너뛰고 다음 실행에서 채운다.
+                log.warn("그룹 date 요약 중복 저장 lastId={}, retried={}", lastId, retried);
+                if (retried) {
+                    lastId = dateIds.get(dateIds.size() - 1);
+                }
+                retried = !retried;
+            }
+            dateIds = dateRepository.findGroupDateIdsWithoutSummaryAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+        }
+        log.info("그룹 date 요약 초기화 count={}", count);
+    }
+
+    private void releaseJob() {
+        try {
+            activityTracker.releaseJob(JOB_NAME);
+        } catch (DataAccessException e) {
+            log.warn("그룹 date 요약 초기화 lock 해제 실패 {}", e.getMessage());
+        }
+    }
+}
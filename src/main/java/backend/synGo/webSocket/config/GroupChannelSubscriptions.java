@@ -0,0 +1,126 @@
+package backend.synGo.webSocket.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이 서버의 STOMP 구독에 따라 그룹 채널을 구독, 해제
+ * /sub/groups/{groupId}/... 를 구독한 세션이 하나라도 있는 그룹의 채널만 Redis 에서 구독하므로
+ * 서버가 받는 동기화 메시지 수는 전체 변경 수가 아니라 이 서버에 접속한 그룹 수에 비례한다.
+ */
+@Slf4j
+@Component
+public class GroupChannelSubscriptions {
+
+    private static final Pattern GROUP_DESTINATION = Pattern.compile("^/sub/groups/(\\d+)(/.*)?$");
+
+    private final RedisMessageListenerContainer container;
+    private final MessageListenerAdapter listenerAdapter;
+
+    // sessionId -> (subscriptionId -> groupId)
+    private final Map<String, Map<String, Long>> sessions = new HashMap<>();
+    // groupId -> 이 서버의 구독 수
+    private final Map<Long, Integer> groupCounts = new HashMap<>();
+
+    public GroupChannelSubscriptions(RedisMessageListenerContainer container, MessageListenerAdapter listenerAdapter) {
+        this.container = container;
+        this.listenerAdapter = listenerAdapter;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = wrap(event.getMessage());
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * @param sessionId
+     * @param subscriptionId
+     * @param destination 그룹 destination 이 아니면 무시
+     */
+    public synchronized void subscribe(String sessionId, String subscriptionId, String destination) {
+        Long groupId = parseGroupId(destination);
+        if (sessionId == null || subscriptionId == null || groupId == null) return;
+        Long previous = sessions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, groupId);
+        if (previous != null) release(previous);
+        if (groupCounts.merge(groupId, 1, Integer::sum) == 1) {
+            container.addMessageListener(listenerAdapter, new ChannelTopic(SyncChannels.groupTopic(groupId)));
+            log.info("그룹 채널 구독 groupId={}", groupId);
+        }
+    }
+
+    public synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null || subscriptionId == null) return;
+        Long groupId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) sessions.remove(sessionId);
+        if (groupId != null) release(groupId);
+    }
+
+    /**
+     * 연결 종료 시 세션의 모든 구독 해제 (같은 세션의 종료 이벤트가 여러 번 와도 한번만 처리)
+     * @param sessionId
+     */
+    public synchronized void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) return;
+        subscriptions.values().forEach(this::release);
+    }
+
+    /**
+     * 이 서버가 구독 중인 그룹
+     * @return
+     */
+    public synchronized Set<Long> getSubscribedGroups() {
+        return Set.copyOf(groupCounts.keySet());
+    }
+
+    private void release(Long groupId) {
+        Integer count = groupCounts.computeIfPresent(groupId, (id, c) -> c > 1 ? c - 1 : null);
+        if (count == null) {
+            container.removeMessageListener(listenerAdapter, new ChannelTopic(SyncChannels.groupTopic(groupId)));
+            log.info("그룹 채널 구독 해제 groupId={}", groupId);
+        }
+    }
+
+    static Long parseGroupId(String destination) {
+        if (destination == null) return null;
+        Matcher matcher = GROUP_DESTINATION.matcher(destination);
+        if (!matcher.matches()) return null;
+        try {
+            return Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static StompHeaderAccessor wrap(Message<?> message) {
+        return StompHeaderAccessor.wrap(message);
+    }
+}
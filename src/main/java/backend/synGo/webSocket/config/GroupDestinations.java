@@ -0,0 +1,74 @@
+package backend.synGo.webSocket.config;
+
+import backend.synGo.webSocket.message.GroupSyncDayMessage;
+import backend.synGo.webSocket.message.GroupSyncDetailMessage;
+import backend.synGo.webSocket.message.GroupSyncMonthMessage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 동기화 STOMP destination 문자열 캐시
+ * 같은 그룹의 달, 하루 destination 은 메시지마다 다시 만들지 않고 그룹 별로 보관한다.
+ * 슬롯 destination 은 슬롯 수만큼 늘어나므로 그룹 prefix 만 보관한다.
+ */
+@Component
+public class GroupDestinations {
+
+    private final Cache<Long, Group> groups;
+
+    public GroupDestinations(
+            @Value("${security.sync.destination-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.sync.destination-cache.expiration-minutes:30}") long expirationMinutes) {
+        this.groups = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(expirationMinutes))
+                .build();
+    }
+
+    public String month(GroupSyncMonthMessage message) {
+        return group(message.getGroupId()).month(message.getYear(), message.getMonth());
+    }
+
+    public String day(GroupSyncDayMessage message) {
+        return group(message.getGroupId()).day(message.getYear(), message.getMonth(), message.getDay());
+    }
+
+    public String slot(GroupSyncDetailMessage message) {
+        return group(message.getGroupId()).slotPrefix + message.getSlotId();
+    }
+
+    private Group group(Long groupId) {
+        return groups.get(groupId, Group::new);
+    }
+
+    private static final class Group {
+
+        private final String prefix;
+        private final String slotPrefix;
+        // year * 100 + month
+        private final Map<Integer, String> months = new ConcurrentHashMap<>();
+        // (year * 100 + month) * 100 + day
+        private final Map<Integer, String> days = new ConcurrentHashMap<>();
+
+        Group(Long groupId) {
+            this.prefix = "/sub/groups/" + groupId;
+            this.slotPrefix = prefix + "/slots/";
+        }
+
+        String month(int year, int month) {
+            return months.computeIfAbsent(year * 100 + month,
+                    key -> prefix + "/date/month?year=" + year + "&month=" + month);
+        }
+
+        String day(int year, int month, int day) {
+            return days.computeIfAbsent((year * 100 + month) * 100 + day,
+                    key -> prefix + "/date/day?year=" + year + "&month=" + month + "&day=" + day);
+        }
+    }
+}
@@ -1,27 +1,49 @@
 package backend.synGo.webSocket.config;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Service;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RedisPublisher {
     private final ChannelTopic channelTopic;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisTemplate<String, byte[]> cacheRedisTemplate;
+    private final SyncMessageCodec syncMessageCodec;
+
+    public RedisPublisher(
+            ChannelTopic channelTopic,
+            @Qualifier("syncRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+            @Qualifier("scheduleBytesRedisTemplate") RedisTemplate<String, byte[]> cacheRedisTemplate,
+            SyncMessageCodec syncMessageCodec) {
+        this.channelTopic = channelTopic;
+        this.redisTemplate = redisTemplate;
+        this.cacheRedisTemplate = cacheRedisTemplate;
+        this.syncMessageCodec = syncMessageCodec;
+    }
 
     /**
      * 이벤트 발생 시 Redis에 메시지를 생성해서 모든 서버에 브로드 캐스팅을 한다.
+     * 캐시 무효화 메시지는 요청 스레드에서 발행하므로 일정 캐시 연결의 짧은 timeout 으로 발행한다.
      * @param message
      */
     public void publish(Object message) {
         // Redis에 메시지를 발행 -> RedisConfig의 RedisMessageListenerContainer가 이 메시지를 수신
-        redisTemplate.convertAndSend(channelTopic.getTopic(), message);
-        // ✅ 로그 추가
+        cacheRedisTemplate.convertAndSend(channelTopic.getTopic(), syncMessageCodec.encode(message));
         log.info("[PUBLISH] topic: {}, message: {}", channelTopic.getTopic(), message);
     }
+
+    /**
+     * 그룹 동기화 메시지는 그룹 채널로 발행, 그룹을 구독한 세션이 있는 서버만 수신한다.
+     * @param groupId
+     * @param message
+     */
+    public void publishToGroup(Long groupId, Object message) {
+        String topic = SyncChannels.groupTopic(groupId);
+        redisTemplate.convertAndSend(topic, syncMessageCodec.encode(message));
+        log.info("[PUBLISH] topic: {}, message: {}", topic, message);
+    }
 }
@@ -1,63 +1,71 @@
 package backend.synGo.webSocket.config;
 
+import backend.synGo.config.scheduler.GroupSchedulerProvider;
+import backend.synGo.webSocket.message.CacheEvictBatchMessage;
+import backend.synGo.webSocket.message.CacheEvictMessage;
+import backend.synGo.webSocket.message.GroupSyncBatchMessage;
 import backend.synGo.webSocket.message.GroupSyncDayMessage;
 import backend.synGo.webSocket.message.GroupSyncDetailMessage;
 import backend.synGo.webSocket.message.GroupSyncMonthMessage;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Component;
 
+
 @RequiredArgsConstructor
 @Component
 @Slf4j
-public class RedisSubscriber {
+public class RedisSubscriber implements MessageListener, SyncMessageHandler {
 
-    private final ObjectMapper objectMapper;
+    private final SyncMessageCodec syncMessageCodec;
+    private final GroupDestinations groupDestinations;
     private final SimpMessageSendingOperations messagingTemplate;
+    private final GroupSchedulerProvider groupSchedulerProvider;
 
     /**
-     * Redis로부터 메세지를 수신 받으면 자동 호출
-     * @param publishMessage
+     * Redis로부터 메세지를 수신 받으면 자동 호출 (Redis listener 스레드)
+     * 모든 서버가 받는 control 채널(캐시 무효화)과 이 서버가 구독 중인 그룹 채널(동기화) 메시지를 함께 처리한다.
+     * 메시지 종류는 SyncMessageCodec 의 header 로 구분해 한번에 디코딩한다.
+     * @param message
+     * @param pattern
      */
-    public void updatedData(String publishMessage) {
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
         try {
-            JsonNode root = objectMapper.readTree(publishMessage);
-
-            // 메시지 종류 판별
-            if (root.has("slotId")) {
-                // 상세 슬롯
-                log.info("Received a slot view message: {}", root);
-                GroupSyncDetailMessage message = objectMapper.treeToValue(root, GroupSyncDetailMessage.class);
-                messagingTemplate.convertAndSend(
-                        "/sub/groups/" + message.getGroupId() + "/slots/" + message.getSlotId(),
-                        message
-                );
-            } else if (root.has("day")) {
-                // 하루 뷰
-                log.info("Received a day view message: {}", root);
-                GroupSyncDayMessage message = objectMapper.treeToValue(root, GroupSyncDayMessage.class);
-                messagingTemplate.convertAndSend(
-                        "/sub/groups/" + message.getGroupId() + "/date/day?year=" + message.getYear() + "&month=" + message.getMonth() + "&day=" + message.getDay(),
-                        message
-                );
-            } else {
-                // 한 달 뷰
-                log.info("Received a month view message: {}", root);
-                GroupSyncMonthMessage message = objectMapper.treeToValue(root, GroupSyncMonthMessage.class);
-                messagingTemplate.convertAndSend(
-                        "/sub/groups/" + message.getGroupId() + "/date/month?year=" + message.getYear() + "&month=" + message.getMonth(),
-                        message
-                );
-            }
-
+            syncMessageCodec.decode(message.getBody(), this);
         } catch (Exception e) {
-            log.error("RedisSubscriber - 메시지 처리 중 예외 발생", e);
-        } finally {
-            // ✅ 로그 추가
-            log.info("[SUBSCRIBE] Received message: {}", publishMessage);
+            log.error("RedisSubscriber - 메시지 처리 중 예외 발생 channel={}", new String(message.getChannel()), e);
+        }
+    }
+
+    @Override
+    public void onCacheEvict(CacheEvictMessage message) {
+        // 로컬 캐시 무효화
+        groupSchedulerProvider.evictLocal(message.getCacheKey());
+    }
+
+    @Override
+    public void onCacheEvictBatch(CacheEvictBatchMessage message) {
+        // 여러 key 로컬 캐시 무효화
+        message.getCacheKeys().forEach(groupSchedulerProvider::evictLocal);
+    }
+
+    @Override
+    public void onGroupSync(GroupSyncBatchMessage message) {
+        // 그룹 동기화 묶음을 한 달 뷰, 하루 뷰, 상세 슬롯 destination 으로 나눠 전송
+        // 하루 뷰 캐시는 발행한 서버에서 삭제 (GroupSyncBatcher)
+        log.debug("[SUBSCRIBE] group sync: {}", message);
+        for (GroupSyncMonthMessage month : message.getMonths()) {
+            messagingTemplate.convertAndSend(groupDestinations.month(month), month);
+        }
+        for (GroupSyncDayMessage day : message.getDays()) {
+            messagingTemplate.convertAndSend(groupDestinations.day(day), day);
+        }
+        for (GroupSyncDetailMessage slot : message.getSlots()) {
+            messagingTemplate.convertAndSend(groupDestinations.slot(slot), slot);
         }
     }
 }
@@ -0,0 +1,19 @@
+package backend.synGo.webSocket.config;
+
+/**
+ * Redis pub/sub 채널 이름
+ * CONTROL_TOPIC : 모든 서버가 항상 구독 (로컬 캐시 무효화 등)
+ * 그룹 채널      : 그룹 동기화 메시지, 그룹을 구독한 STOMP 세션이 있는 서버만 구독
+ */
+public final class SyncChannels {
+
+    public static final String CONTROL_TOPIC = "myGroupSynGo";
+    private static final String GROUP_TOPIC_PREFIX = CONTROL_TOPIC + ":group:";
+
+    private SyncChannels() {
+    }
+
+    public static String groupTopic(Long groupId) {
+        return GROUP_TOPIC_PREFIX + groupId;
+    }
+}
@@ -0,0 +1,268 @@
+package backend.synGo.webSocket.config;
+
+import backend.synGo.common.codec.VarIntReader;
+import backend.synGo.common.codec.VarIntWriter;
+import backend.synGo.domain.slot.SlotImportance;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForMonth;
+import backend.synGo.webSocket.message.CacheEvictBatchMessage;
+import backend.synGo.webSocket.message.CacheEvictMessage;
+import backend.synGo.webSocket.message.GroupSlotChange;
+import backend.synGo.webSocket.message.GroupSyncBatchMessage;
+import backend.synGo.webSocket.message.GroupSyncDayMessage;
+import backend.synGo.webSocket.message.GroupSyncDetailMessage;
+import backend.synGo.webSocket.message.GroupSyncMonthMessage;
+import backend.synGo.webSocket.message.GroupSyncOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis pub/sub 동기화 메시지 직렬화
+ * header : magic(1) version(1) type(1)
+ * type   : 1 = 로컬 캐시 무효화(key), 2 = 여러 key 무효화(개수, key...), 3 = 그룹 동기화 묶음
+ * 그룹 동기화 묶음 : groupId, 달 수, 달..., 날짜 수, 날짜..., 슬롯 수, 슬롯...
+ *   달   : year * 12 + month - 1, 요약 수 + 1 (0 이면 null), 요약(DateDtoForMonth)...
+ *   날짜 : epoch day, 변경 수 + 1 (0 이면 null), 변경(GroupSlotChange)...
+ *   슬롯 : slotId, 변경 여부(0, 1), 변경
+ * 정수는 모두 varint(음수 가능 값은 zigzag), 캐시 key 는 길이 + UTF-8
+ * 슬롯 정보의 문자열은 길이 + 1 (0 이면 null) + UTF-8, enum 은 ordinal + 1 (0 이면 null)
+ * 종류를 header 의 type 으로 구분하므로 JSON 처럼 필드를 보고 추측하거나 두 번 변환하지 않고 한번에 메시지 객체로 읽는다.
+ * version 은 형식이 바뀐 종류만 올린다. 무효화 메시지는 version 1 그대로 써서 배포 중인 이전 서버도 로컬 캐시를 지우고,
+ * 이전 서버가 보낸 version 1 그룹 동기화(달, 날짜, slotId 만 있는 형식)도 계속 읽는다.
+ */
+@Component
+public class SyncMessageCodec {
+
+    // JSON 값('{')과 겹치지 않는 값, 이전 JSON 형식 메시지를 구분하는데 사용
+    static final byte MAGIC = (byte) 0xC5;
+    // 무효화 메시지, 요약과 변경 정보가 없는 그룹 동기화
+    static final byte VERSION_1 = 1;
+    // 그룹 동기화에 요약, 변경 정보 추가
+    static final byte VERSION = 2;
+
+    static final int TYPE_CACHE_EVICT = 1;
+    static final int TYPE_CACHE_EVICT_BATCH = 2;
+    static final int TYPE_GROUP_SYNC = 3;
+
+    private static final SlotImportance[] IMPORTANCES = SlotImportance.values();
+    private static final GroupSyncOperation[] OPERATIONS = GroupSyncOperation.values();
+
+    public byte[] encode(Object message) {
+        if (message instanceof CacheEvictMessage evict) {
+            VarIntWriter body = header(VERSION_1, TYPE_CACHE_EVICT);
+            body.writeString(evict.getCacheKey());
+            return body.toByteArray();
+        }
+        if (message instanceof CacheEvictBatchMessage evictBatch) {
+            VarIntWriter body = header(VERSION_1, TYPE_CACHE_EVICT_BATCH);
+            body.writeVarInt(evictBatch.getCacheKeys().size());
+            evictBatch.getCacheKeys().forEach(body::writeString);
+            return body.toByteArray();
+        }
+        if (message instanceof GroupSyncBatchMessage sync) {
+            VarIntWriter body = header(VERSION, TYPE_GROUP_SYNC);
+            writeGroupSync(body, sync);
+            return body.toByteArray();
+        }
+        throw new IllegalArgumentException("지원하지 않는 동기화 메시지: " + message.getClass().getName());
+    }
+
+    /**
+     * 메시지 종류에 맞는 handler 메서드 호출
+     * 다른 형식이거나 모르는 version, type 이면 IllegalArgumentException
+     * @param bytes
+     * @param handler
+     */
+    public void decode(byte[] bytes, SyncMessageHandler handler) {
+        if (bytes.length < 3 || bytes[0] != MAGIC) {
+            throw new IllegalArgumentException("지원하지 않는 동기화 메시지 형식");
+        }
+        byte version = bytes[1];
+        if (version != VERSION_1 && version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 동기화 메시지 버전: " + version);
+        }
+        VarIntReader body = new VarIntReader(bytes, 3, "동기화 메시지가 잘렸습니다");
+        switch (bytes[2]) {
+            case TYPE_CACHE_EVICT -> handler.onCacheEvict(new CacheEvictMessage(body.readString()));
+            case TYPE_CACHE_EVICT_BATCH -> {
+                int size = body.readVarInt();
+                List<String> keys = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    keys.add(body.readString());
+                }
+                handler.onCacheEvictBatch(new CacheEvictBatchMessage(keys));
+            }
+            case TYPE_GROUP_SYNC -> handler.onGroupSync(version == VERSION_1 ? readGroupSyncV1(body) : readGroupSync(body));
+            default -> throw new IllegalArgumentException("알 수 없는 동기화 메시지 종류: " + bytes[2]);
+        }
+    }
+
+    private static VarIntWriter header(byte version, int type) {
+        VarIntWriter body = new VarIntWriter(64);
+        body.write(MAGIC);
+        body.write(version);
+        body.write(type);
+        return body;
+    }
+
+    private static void writeGroupSync(VarIntWriter body, GroupSyncBatchMessage sync) {
+        body.writeZigZag(sync.getGroupId());
+        body.writeVarInt(sync.getMonths().size());
+        for (GroupSyncMonthMessage month : sync.getMonths()) {
+            body.writeVarInt(month.getYear() * 12L + month.getMonth() - 1);
+            writeNullableSize(body, month.getDays());
+            if (month.getDays() != null) month.getDays().forEach(summary -> writeSummary(body, summary));
+        }
+        body.writeVarInt(sync.getDays().size());
+        for (GroupSyncDayMessage day : sync.getDays()) {
+            body.writeZigZag(LocalDate.of(day.getYear(), day.getMonth(), day.getDay()).toEpochDay());
+            writeNullableSize(body, day.getChanges());
+            if (day.getChanges() != null) day.getChanges().forEach(change -> writeChange(body, change));
+        }
+        body.writeVarInt(sync.getSlots().size());
+        for (GroupSyncDetailMessage slot : sync.getSlots()) {
+            body.writeZigZag(slot.getSlotId());
+            body.write(slot.getChange() == null ? 0 : 1);
+            if (slot.getChange() != null) writeChange(body, slot.getChange());
+        }
+    }
+
+    private static GroupSyncBatchMessage readGroupSync(VarIntReader body) {
+        Long groupId = body.readZigZag();
+
+        int monthSize = body.readVarInt();
+        List<GroupSyncMonthMessage> months = new ArrayList<>(monthSize);
+        for (int i = 0; i < monthSize; i++) {
+            int monthIndex = body.readVarInt();
+            List<DateDtoForMonth> summaries = null;
+            int summarySize = body.readVarInt() - 1;
+            if (summarySize >= 0) {
+                summaries = new ArrayList<>(summarySize);
+                for (int j = 0; j < summarySize; j++) {
+                    summaries.add(readSummary(body));
+                }
+            }
+            months.add(new GroupSyncMonthMessage(groupId, monthIndex / 12, monthIndex % 12 + 1, summaries));
+        }
+
+        int daySize = body.readVarInt();
+        List<GroupSyncDayMessage> days = new ArrayList<>(daySize);
+        for (int i = 0; i < daySize; i++) {
+            LocalDate day = LocalDate.ofEpochDay(body.readZigZag());
+            List<GroupSlotChange> changes = null;
+            int changeSize = body.readVarInt() - 1;
+            if (changeSize >= 0) {
+                changes = new ArrayList<>(changeSize);
+                for (int j = 0; j < changeSize; j++) {
+                    changes.add(readChange(body));
+                }
+            }
+            days.add(new GroupSyncDayMessage(groupId, day.getYear(), day.getMonthValue(), day.getDayOfMonth(), changes));
+        }
+
+        int slotSize = body.readVarInt();
+        List<GroupSyncDetailMessage> slots = new ArrayList<>(slotSize);
+        for (int i = 0; i < slotSize; i++) {
+            Long slotId = body.readZigZag();
+            GroupSlotChange change = body.read() == 0 ? null : readChange(body);
+            slots.add(new GroupSyncDetailMessage(groupId, slotId, change));
+        }
+        return new GroupSyncBatchMessage(groupId, months, days, slots);
+    }
+
+    /**
+     * version 1 그룹 동기화, 요약과 변경 정보는 null (클라이언트가 다시 조회)
+     * @param body
+     * @return
+     */
+    private static GroupSyncBatchMessage readGroupSyncV1(VarIntReader body) {
+        Long groupId = body.readZigZag();
+
+        int monthSize = body.readVarInt();
+        List<GroupSyncMonthMessage> months = new ArrayList<>(monthSize);
+        for (int i = 0; i < monthSize; i++) {
+            int monthIndex = body.readVarInt();
+            months.add(new GroupSyncMonthMessage(groupId, monthIndex / 12, monthIndex % 12 + 1, null));
+        }
+
+        int daySize = body.readVarInt();
+        List<GroupSyncDayMessage> days = new ArrayList<>(daySize);
+        for (int i = 0; i < daySize; i++) {
+            LocalDate day = LocalDate.ofEpochDay(body.readZigZag());
+            days.add(new GroupSyncDayMessage(groupId, day.getYear(), day.getMonthValue(), day.getDayOfMonth(), null));
+        }
+
+        int slotSize = body.readVarInt();
+        List<GroupSyncDetailMessage> slots = new ArrayList<>(slotSize);
+        for (int i = 0; i < slotSize; i++) {
+            slots.add(new GroupSyncDetailMessage(groupId, body.readZigZag(), null));
+        }
+        return new GroupSyncBatchMessage(groupId, months, days, slots);
+    }
+
+    private static void writeSummary(VarIntWriter body, DateDtoForMonth summary) {
+        body.writeVarInt(summary.getSlotCount());
+        body.writeZigZag(summary.getToday().toEpochDay());
+        List<SlotDtoForMonth> slots = summary.getSlotInfo() == null ? List.of() : summary.getSlotInfo();
+        body.writeVarInt(slots.size());
+        for (SlotDtoForMonth slot : slots) {
+            body.writeNullableLong(slot.getGroupId());
+            body.writeNullableLong(slot.getSlotId());
+            body.writeNullableString(slot.getTitle());
+            body.writeDateTime(slot.getStartTime());
+            body.writeEnum(slot.getImportance());
+        }
+    }
+
+    private static DateDtoForMonth readSummary(VarIntReader body) {
+        int slotCount = body.readVarInt();
+        LocalDate today = LocalDate.ofEpochDay(body.readZigZag());
+        int size = body.readVarInt();
+        List<SlotDtoForMonth> slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(SlotDtoForMonth.builder()
+                    .groupId(body.readNullableLong())
+                    .slotId(body.readNullableLong())
+                    .title(body.readNullableString())
+                    .startTime(body.readDateTime())
+                    .importance(body.readEnum(IMPORTANCES))
+                    .build());
+        }
+        return new DateDtoForMonth(slotCount, today, slots);
+    }
+
+    private static void writeChange(VarIntWriter body, GroupSlotChange change) {
+        body.writeEnum(change.getOperation());
+        body.writeNullableLong(change.getSlotId());
+        body.writeNullableString(change.getTitle());
+        body.writeNullableString(change.getContent());
+        body.writeDateTime(change.getStartTime());
+        body.writeDateTime(change.getEndTime());
+        body.writeNullableString(change.getPlace());
+        body.writeEnum(change.getImportance());
+        body.writeNullableString(change.getStatus());
+        body.writeNullableString(change.getUpdater());
+    }
+
+    private static GroupSlotChange readChange(VarIntReader body) {
+        return GroupSlotChange.builder()
+                .operation(body.readEnum(OPERATIONS))
+                .slotId(body.readNullableLong())
+                .title(body.readNullableString())
+                .content(body.readNullableString())
+                .startTime(body.readDateTime())
+                .endTime(body.readDateTime())
+                .place(body.readNullableString())
+                .importance(body.readEnum(IMPORTANCES))
+                .status(body.readNullableString())
+                .updater(body.readNullableString())
+                .build();
+    }
+
+    private static void writeNullableSize(VarIntWriter body, List<?> values) {
+        body.writeVarInt(values == null ? 0 : values.size() + 1L);
+    }
+}
@@ -0,0 +1,17 @@
+package backend.synGo.webSocket.config;
+
+import backend.synGo.webSocket.message.CacheEvictBatchMessage;
+import backend.synGo.webSocket.message.CacheEvictMessage;
+import backend.synGo.webSocket.message.GroupSyncBatchMessage;
+
+/**
+ * SyncMessageCodec 이 디코딩한 메시지를 종류 별로 받는 곳
+ */
+public interface SyncMessageHandler {
+
+    void onCacheEvict(CacheEvictMessage message);
+
+    void onCacheEvictBatch(CacheEvictBatchMessage message);
+
+    void onGroupSync(GroupSyncBatchMessage message);
+}
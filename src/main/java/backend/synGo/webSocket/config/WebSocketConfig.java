@@ -18,7 +18,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  *    ↓
  * 각 서버의 RedisConfig          // listener 등록되어 있음
  *    ↓
- * RedisSubscriber.updatedData() // 메시지 수신 + WebSocket 전송
+ * RedisSubscriber.onMessage()   // 메시지 수신 + WebSocket 전송
  *    ↓
  * simpMessagingTemplate.convertAndSend("/sub/...")
  *    ↓
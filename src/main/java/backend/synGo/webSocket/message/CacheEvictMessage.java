@@ -0,0 +1,15 @@
+package backend.synGo.webSocket.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로컬(L1) 캐시 무효화 브로드캐스트 메시지
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEvictMessage {
+    private String cacheKey;
+}
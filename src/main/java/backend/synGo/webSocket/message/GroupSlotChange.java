@@ -0,0 +1,68 @@
+package backend.synGo.webSocket.message;
+
+import backend.synGo.domain.slot.GroupSlot;
+import backend.synGo.domain.slot.SlotImportance;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 메시지에 담는 변경된 슬롯 정보, 클라이언트는 다시 조회하지 않고 화면에 바로 반영한다.
+ * DELETE 는 slotId 만 가진다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupSlotChange {
+    private GroupSyncOperation operation;
+    private Long slotId;
+    private String title;
+    private String content;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String place;
+    private SlotImportance importance;
+    private String status;
+    private String updater;
+
+    public static GroupSlotChange of(GroupSyncOperation operation, GroupSlot groupSlot) {
+        return GroupSlotChange.builder()
+                .operation(operation)
+                .slotId(groupSlot.getId())
+                .title(groupSlot.getTitle())
+                .content(groupSlot.getContent())
+                .startTime(groupSlot.getStartTime())
+                .endTime(groupSlot.getEndTime())
+                .place(groupSlot.getPlace())
+                .importance(groupSlot.getImportance())
+                .status(groupSlot.getStatus() == null ? null : groupSlot.getStatus().getStatus())
+                .updater(groupSlot.getUpdateUser())
+                .build();
+    }
+
+    public static GroupSlotChange deleted(Long slotId) {
+        return GroupSlotChange.builder()
+                .operation(GroupSyncOperation.DELETE)
+                .slotId(slotId)
+                .build();
+    }
+
+    /**
+     * 같은 슬롯의 이전 변경에 이어진 변경을 하나로 합침
+     * 삭제가 가장 우선하고, 생성 후 수정은 마지막 내용의 생성으로 본다.
+     * @param previous
+     * @return
+     */
+    public GroupSlotChange after(GroupSlotChange previous) {
+        if (previous == null || operation == GroupSyncOperation.DELETE) return this;
+        if (previous.operation == GroupSyncOperation.DELETE) return previous;
+        if (previous.operation == GroupSyncOperation.CREATE) {
+            return toBuilder().operation(GroupSyncOperation.CREATE).build();
+        }
+        return this;
+    }
+}
@@ -0,0 +1,21 @@
+package backend.synGo.webSocket.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 그룹의 짧은 시간 동안의 동기화 이벤트를 묶은 메시지
+ * 같은 달, 하루, 슬롯은 한번만 포함되며 RedisSubscriber 가 각각의 STOMP destination 으로 나눠 전송한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupSyncBatchMessage {
+    private Long groupId;
+    private List<GroupSyncMonthMessage> months;
+    private List<GroupSyncDayMessage> days;
+    private List<GroupSyncDetailMessage> slots;
+}
@@ -4,6 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
+/**
+ * 하루 뷰 동기화 메시지
+ * changes 는 그 날의 변경된 슬롯 목록으로, null 이면 클라이언트가 하루를 다시 조회한다.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,4 +18,5 @@ public class GroupSyncDayMessage {
     private int year;
     private int month;
     private int day;
+    private List<GroupSlotChange> changes;
 }
@@ -4,10 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * 상세 슬롯 동기화 메시지
+ * change 는 변경된 슬롯 정보로, null 이면(슬롯 맴버 변경 등) 클라이언트가 슬롯을 다시 조회한다.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class GroupSyncDetailMessage {
     private Long groupId;
     private Long slotId;
+    private GroupSlotChange change;
 }
@@ -0,0 +1,25 @@
+package backend.synGo.webSocket.message;
+
+import backend.synGo.form.DateDtoForMonth;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 그룹 동기화 애플리케이션 이벤트, 트랜잭션이 커밋된 후 GroupSyncEventListener 에서 발행 대기열에 넣는다.
+ * month, day, slotId 중 null 인 값은 동기화하지 않는다.
+ * summary 는 변경된 날짜의 다시 계산된 요약, change 는 변경된 슬롯 정보로 null 이면 클라이언트가 다시 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class GroupSyncEvent {
+    private final Long groupId;
+    private final YearMonth month;
+    private final LocalDate day;
+    private final Long slotId;
+    private final DateDtoForMonth summary;
+    private final GroupSlotChange change;
+    private final long createdNanos = System.nanoTime();
+}
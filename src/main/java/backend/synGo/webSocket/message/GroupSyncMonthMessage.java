@@ -1,7 +1,14 @@
 package backend.synGo.webSocket.message;
 
+import backend.synGo.form.DateDtoForMonth;
 import lombok.*;
 
+import java.util.List;
+
+/**
+ * 한 달 뷰 동기화 메시지
+ * days 는 변경된 날짜의 다시 계산된 요약으로, null 이면 클라이언트가 한 달을 다시 조회한다.
+ */
 @Data
 @Builder
 @AllArgsConstructor
@@ -10,4 +17,5 @@ public class GroupSyncMonthMessage {
     private Long groupId;
     private int year;
     private int month;
+    private List<DateDtoForMonth> days;
 }
@@ -0,0 +1,8 @@
+package backend.synGo.webSocket.message;
+
+/**
+ * 동기화 메시지에 담긴 슬롯 변경 종류
+ */
+public enum GroupSyncOperation {
+    CREATE, UPDATE, DELETE, STATUS
+}
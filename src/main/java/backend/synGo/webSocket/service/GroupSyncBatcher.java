@@ -0,0 +1,248 @@
+package backend.synGo.webSocket.service;
+
+import backend.synGo.common.monitoring.metrics.GroupSyncMetricsService;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.webSocket.config.RedisPublisher;
+import backend.synGo.webSocket.message.GroupSlotChange;
+import backend.synGo.webSocket.message.GroupSyncBatchMessage;
+import backend.synGo.webSocket.message.GroupSyncDayMessage;
+import backend.synGo.webSocket.message.GroupSyncDetailMessage;
+import backend.synGo.webSocket.message.GroupSyncEvent;
+import backend.synGo.webSocket.message.GroupSyncMonthMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+/**
+ * 커밋된 그룹 동기화 이벤트를 그룹 별로 window-millis 동안 모아 별도 스레드에서 한번에 발행
+ * 그룹의 첫 이벤트가 들어오면 window-millis 뒤에 flush 를 예약하고, 그 사이의 이벤트는 같은 묶음에 합친다.
+ * 같은 달, 하루, 슬롯은 한번만 포함되므로 여러 슬롯을 연달아 수정해도 그룹 당 window 마다 메시지 하나만 발행된다.
+ * 발행 대기 그룹은 max-pending-groups 까지만 받고, 발행에 실패한 묶음은 retry-delay-millis * 시도 횟수 뒤에
+ * max-attempts 번까지 다시 발행한다.
+ */
+@Slf4j
+@Component
+public class GroupSyncBatcher {
+
+    private final RedisPublisher redisPublisher;
+    private final GroupSyncMetricsService metrics;
+    private final long windowMillis;
+    private final int maxPendingGroups;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+
+    private final Map<Long, PendingSync> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "group-sync-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GroupSyncBatcher(
+            RedisPublisher redisPublisher,
+            GroupSyncMetricsService metrics,
+            @Value("${security.sync.batch-window-millis:30}") long windowMillis,
+            @Value("${security.sync.max-pending-groups:10000}") int maxPendingGroups,
+            @Value("${security.sync.max-attempts:3}") int maxAttempts,
+            @Value("${security.sync.retry-delay-millis:200}") long retryDelayMillis) {
+        this.redisPublisher = redisPublisher;
+        this.metrics = metrics;
+        this.windowMillis = Math.max(0, windowMillis);
+        this.maxPendingGroups = Math.max(1, maxPendingGroups);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMillis = retryDelayMillis;
+        metrics.bindPending(this, batcher -> batcher.pending.size());
+    }
+
+    /**
+     * 발행 대기열에 이벤트 추가, 대기 그룹 수가 max-pending-groups 이면 새 그룹의 이벤트는 버린다.
+     * @param event
+     * @return 추가 여부
+     */
+    public boolean add(GroupSyncEvent event) {
+        //flush 의 remove 와 같은 key 에 대해 원자적으로 실행되므로 flush 이후의 이벤트는 새 묶음에 들어간다.
+        PendingSync added = pending.compute(event.getGroupId(), (id, sync) -> {
+            if (sync == null) {
+                if (pending.size() >= maxPendingGroups) return null;
+                sync = new PendingSync(event.getCreatedNanos());
+                schedule(id, windowMillis);
+            }
+            sync.add(event);
+            return sync;
+        });
+        if (added == null) {
+            metrics.recordRejected();
+            log.warn("그룹 동기화 대기열이 가득 차 이벤트를 버림 groupId={}", event.getGroupId());
+            return false;
+        }
+        return true;
+    }
+
+    private void schedule(Long groupId, long delayMillis) {
+        try {
+            flusher.schedule(() -> flush(groupId), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            //종료 중이면 shutdown 에서 남은 묶음을 발행
+            log.warn("그룹 동기화 flush 예약 실패 groupId={}", groupId, e);
+        }
+    }
+
+    /**
+     * 모은 이벤트 발행, 캐시 무효화는 슬롯 변경 커밋 후에 이미 끝났으므로 버리거나 발행에 실패해도 캐시는 남지 않는다.
+     * @param groupId
+     */
+    void flush(Long groupId) {
+        PendingSync sync = pending.remove(groupId);
+        if (sync == null) return;
+        long start = System.nanoTime();
+        try {
+            redisPublisher.publishToGroup(groupId, sync.toMessage(groupId));
+            metrics.recordPublish(start, GroupSyncMetricsService.RESULT_SUCCESS);
+            metrics.recordDelay(sync.firstEventNanos);
+        } catch (RuntimeException e) {
+            //발행 실패가 예약 스레드를 멈추지 않도록 재시도 예약 후 종료
+            retry(groupId, sync, start, e);
+        }
+    }
+
+    private void retry(Long groupId, PendingSync failed, long start, RuntimeException e) {
+        if (++failed.attempts >= maxAttempts) {
+            metrics.recordPublish(start, GroupSyncMetricsService.RESULT_DROPPED);
+            log.error("그룹 동기화 발행 실패, {}번 시도 후 버림 groupId={}", failed.attempts, groupId, e);
+            return;
+        }
+        metrics.recordPublish(start, GroupSyncMetricsService.RESULT_RETRY);
+        log.warn("그룹 동기화 발행 실패, 재시도 예약 groupId={}, attempts={}", groupId, failed.attempts, e);
+        pending.compute(groupId, (id, sync) -> {
+            //그 사이 새 묶음이 생겼으면 합쳐서 새 묶음의 예약에 함께 발행
+            if (sync != null) {
+                sync.merge(failed);
+                return sync;
+            }
+            schedule(id, retryDelayMillis * failed.attempts);
+            return failed;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        Set.copyOf(pending.keySet()).forEach(this::flush);
+    }
+
+    /**
+     * 한 그룹의 발행 대기 중인 이벤트, 추가 순서를 유지하며 중복은 제거
+     * 달은 날짜 별 요약, 하루와 슬롯은 슬롯 별 변경을 마지막 값으로 합친다.
+     * 변경 정보 없이 들어온 이벤트가 하나라도 있으면 그 대상은 null(클라이언트가 다시 조회)로 남는다.
+     */
+    static final class PendingSync {
+
+        Map<YearMonth, Map<LocalDate, DateDtoForMonth>> months = new LinkedHashMap<>();
+        Map<LocalDate, Map<Long, GroupSlotChange>> days = new LinkedHashMap<>();
+        Map<Long, GroupSlotChange> slots = new LinkedHashMap<>();
+        long firstEventNanos;
+        int attempts;
+
+        PendingSync(long firstEventNanos) {
+            this.firstEventNanos = firstEventNanos;
+        }
+
+        void add(GroupSyncEvent event) {
+            if (event.getMonth() != null) {
+                DateDtoForMonth summary = event.getSummary();
+                //요약이 다른 달의 날짜이면 이 달은 다시 조회
+                boolean inMonth = summary != null && YearMonth.from(summary.getToday()).equals(event.getMonth());
+                putChange(months, event.getMonth(), inMonth ? summary.getToday() : null, inMonth ? summary : null,
+                        (previous, next) -> next);
+            }
+            GroupSlotChange change = event.getChange();
+            if (event.getDay() != null) {
+                putChange(days, event.getDay(), change == null ? null : change.getSlotId(), change,
+                        (previous, next) -> next.after(previous));
+            }
+            if (event.getSlotId() != null) {
+                putSlot(slots, event.getSlotId(), change);
+            }
+        }
+
+        /**
+         * 재시도할 이전 묶음을 합침, 이전 묶음의 변경 뒤에 이 묶음의 변경이 이어진다.
+         * @param previous
+         */
+        void merge(PendingSync previous) {
+            Map<YearMonth, Map<LocalDate, DateDtoForMonth>> mergedMonths = copy(previous.months);
+            months.forEach((month, summaries) -> putAll(mergedMonths, month, summaries, (before, next) -> next));
+            Map<LocalDate, Map<Long, GroupSlotChange>> mergedDays = copy(previous.days);
+            days.forEach((day, changes) -> putAll(mergedDays, day, changes, (before, next) -> next.after(before)));
+            Map<Long, GroupSlotChange> mergedSlots = new LinkedHashMap<>(previous.slots);
+            slots.forEach((slotId, change) -> putSlot(mergedSlots, slotId, change));
+
+            months = mergedMonths;
+            days = mergedDays;
+            slots = mergedSlots;
+            if (previous.firstEventNanos - firstEventNanos < 0) firstEventNanos = previous.firstEventNanos;
+            attempts = Math.max(attempts, previous.attempts);
+        }
+
+        GroupSyncBatchMessage toMessage(Long groupId) {
+            List<GroupSyncMonthMessage> monthMessages = new ArrayList<>(months.size());
+            months.forEach((month, summaries) -> monthMessages.add(new GroupSyncMonthMessage(
+                    groupId, month.getYear(), month.getMonthValue(), summaries == null ? null : new ArrayList<>(summaries.values()))));
+            List<GroupSyncDayMessage> dayMessages = new ArrayList<>(days.size());
+            days.forEach((day, changes) -> dayMessages.add(new GroupSyncDayMessage(
+                    groupId, day.getYear(), day.getMonthValue(), day.getDayOfMonth(), changes == null ? null : new ArrayList<>(changes.values()))));
+            List<GroupSyncDetailMessage> slotMessages = new ArrayList<>(slots.size());
+            slots.forEach((slotId, change) -> slotMessages.add(new GroupSyncDetailMessage(groupId, slotId, change)));
+            return new GroupSyncBatchMessage(groupId, monthMessages, dayMessages, slotMessages);
+        }
+
+        /**
+         * value 가 null 이면 대상 전체를 다시 조회하도록 표시, 이미 표시된 대상에는 더 담지 않는다.
+         */
+        private static <K, I, V> void putChange(Map<K, Map<I, V>> target, K key, I item, V value, BinaryOperator<V> merge) {
+            if (value == null) {
+                target.put(key, null);
+                return;
+            }
+            if (target.containsKey(key) && target.get(key) == null) return;
+            target.computeIfAbsent(key, k -> new LinkedHashMap<>()).merge(item, value, merge);
+        }
+
+        private static <K, I, V> void putAll(Map<K, Map<I, V>> target, K key, Map<I, V> values, BinaryOperator<V> merge) {
+            if (values == null) {
+                target.put(key, null);
+                return;
+            }
+            values.forEach((item, value) -> putChange(target, key, item, value, merge));
+        }
+
+        private static void putSlot(Map<Long, GroupSlotChange> target, Long slotId, GroupSlotChange change) {
+            if (change == null) {
+                target.put(slotId, null);
+                return;
+            }
+            if (target.containsKey(slotId) && target.get(slotId) == null) return;
+            target.merge(slotId, change, (previous, next) -> next.after(previous));
+        }
+
+        private static <K, I, V> Map<K, Map<I, V>> copy(Map<K, Map<I, V>> source) {
+            Map<K, Map<I, V>> copied = new LinkedHashMap<>();
+            source.forEach((key, values) -> copied.put(key, values == null ? null : new LinkedHashMap<>(values)));
+            return copied;
+        }
+    }
+}
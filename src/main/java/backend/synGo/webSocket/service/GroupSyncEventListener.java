@@ -0,0 +1,23 @@
+package backend.synGo.webSocket.service;
+
+import backend.synGo.webSocket.message.GroupSyncEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 변경만 동기화되도록 트랜잭션 커밋 후 발행 대기열에 등록
+ * 롤백된 트랜잭션의 이벤트는 버려지고, 트랜잭션 밖에서 발생한 이벤트는 바로 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupSyncEventListener {
+
+    private final GroupSyncBatcher groupSyncBatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGroupSync(GroupSyncEvent event) {
+        groupSyncBatcher.add(event);
+    }
+}
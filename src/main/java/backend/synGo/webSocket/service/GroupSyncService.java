@@ -1,81 +1,81 @@
 package backend.synGo.webSocket.service;
 
-import backend.synGo.webSocket.config.RedisPublisher;
-import backend.synGo.webSocket.message.GroupSyncDayMessage;
-import backend.synGo.webSocket.message.GroupSyncDetailMessage;
-import backend.synGo.webSocket.message.GroupSyncMonthMessage;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.webSocket.message.GroupSlotChange;
+import backend.synGo.webSocket.message.GroupSyncEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 
+/**
+ * 그룹 동기화 이벤트 등록
+ * 트랜잭션 안에서는 애플리케이션 이벤트만 남기고 Redis 는 호출하지 않는다.
+ * 이벤트는 커밋 후 GroupSyncEventListener 를 거쳐 GroupSyncBatcher 에서 그룹 별로 모아 하나의 메시지로 발행된다.
+ * 변경된 슬롯 정보(change)와 날짜 요약(summary)을 함께 넘기면 클라이언트가 다시 조회하지 않고 바로 반영한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class GroupSyncService {
 
-    private final RedisPublisher redisPublisher;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 슬롯 status 수정 시, 일반 맴버 등록 시 디테일만 동기화
+     * 일반 맴버 등록 시 디테일만 동기화 (클라이언트가 다시 조회)
      * @param groupId
      * @param slotId
      */
     public void groupSlotSyncGoPub(Long groupId, Long slotId) {
-        log.info("슬롯 status 수정 시, 일반 맴버 등록 시 디테일만 동기화");
-        // 예: 상세 슬롯 변경
-        GroupSyncDetailMessage detailMessage = new GroupSyncDetailMessage(groupId, slotId);
-        redisPublisher.publish(detailMessage);
+        log.info("일반 맴버 등록 시 디테일만 동기화");
+        eventPublisher.publishEvent(new GroupSyncEvent(groupId, null, null, slotId, null, null));
+    }
+
+    /**
+     * 슬롯 status 수정 시 디테일만 동기화
+     * @param groupId
+     * @param change
+     */
+    public void groupSlotSyncGoPub(Long groupId, GroupSlotChange change) {
+        log.info("슬롯 status 수정 시 디테일만 동기화");
+        eventPublisher.publishEvent(new GroupSyncEvent(groupId, null, null, change.getSlotId(), null, change));
     }
 
     /**
      * 슬롯 생성 시 달, 하루 동기화
      * @param groupId
      * @param startDate
+     * @param change 생성된 슬롯
+     * @param summary startDate 의 갱신된 요약
      */
-    public void groupCreateSyncGoPub(Long groupId, LocalDate startDate) {
+    public void groupCreateSyncGoPub(Long groupId, LocalDate startDate, GroupSlotChange change, DateDtoForMonth summary) {
         log.info("슬롯 생성 시 달, 하루 동기화");
-        // 예: 그룹 슬롯 생성 후
-        GroupSyncMonthMessage monthMessage = new GroupSyncMonthMessage(groupId, startDate.getYear(), startDate.getMonthValue());
-        redisPublisher.publish(monthMessage);
-        // 예: 특정 날자의 변경
-        GroupSyncDayMessage dayMessage = new GroupSyncDayMessage(groupId, startDate.getYear(), startDate.getMonthValue(), startDate.getDayOfMonth());
-        redisPublisher.publish(dayMessage);
+        eventPublisher.publishEvent(new GroupSyncEvent(groupId, YearMonth.from(startDate), startDate, null, summary, change));
     }
 
     /**
-     * 에디터 등록 시 하루, 디테일 동기화
+     * 에디터 등록 시 하루, 디테일 동기화 (클라이언트가 다시 조회)
      * @param groupId
      * @param startDate
      * @param slotId
      */
     public void groupMemberSyncGoPub(Long groupId,LocalDate startDate, Long slotId) {
         log.info("에디터 등록 시 하루, 디테일 동기화");
-        // 예: 특정 날자의 변경
-        GroupSyncDayMessage dayMessage = new GroupSyncDayMessage(groupId, startDate.getYear(), startDate.getMonthValue(), startDate.getDayOfMonth());
-        redisPublisher.publish(dayMessage);
-        // 예: 상세 슬롯 변경
-        GroupSyncDetailMessage detailMessage = new GroupSyncDetailMessage(groupId, slotId);
-        redisPublisher.publish(detailMessage);
+        eventPublisher.publishEvent(new GroupSyncEvent(groupId, null, startDate, slotId, null, null));
     }
 
     /**
-     * 슬롯 업데이트 시 전체 동기화
+     * 슬롯 업데이트, 삭제 시 전체 동기화
      * @param groupId
      * @param startDate
-     * @param slotId
+     * @param change 수정된 슬롯 또는 삭제
+     * @param summary 슬롯이 속한 날짜의 갱신된 요약, 모르면 null
      */
-    public void groupUpdateSlotSyncGoPub(Long groupId, LocalDate startDate, Long slotId) {
+    public void groupUpdateSlotSyncGoPub(Long groupId, LocalDate startDate, GroupSlotChange change, DateDtoForMonth summary) {
         log.info("슬롯 업데이트 시 전체 동기화");
-        // 예: 그룹 슬롯 생성 후
-        GroupSyncMonthMessage monthMessage = new GroupSyncMonthMessage(groupId, startDate.getYear(), startDate.getMonthValue());
-        redisPublisher.publish(monthMessage);
-        // 예: 특정 날자의 변경
-        GroupSyncDayMessage dayMessage = new GroupSyncDayMessage(groupId, startDate.getYear(), startDate.getMonthValue(), startDate.getDayOfMonth());
-        redisPublisher.publish(dayMessage);
-        // 예: 상세 슬롯 변경
-        GroupSyncDetailMessage detailMessage = new GroupSyncDetailMessage(groupId, slotId);
-        redisPublisher.publish(detailMessage);
+        eventPublisher.publishEvent(new GroupSyncEvent(groupId, YearMonth.from(startDate), startDate, change.getSlotId(), summary, change));
     }
 }
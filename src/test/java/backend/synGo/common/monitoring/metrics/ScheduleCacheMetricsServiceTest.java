@@ -0,0 +1,28 @@
+package backend.synGo.common.monitoring.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleCacheMetricsServiceTest {
+
+    @Test
+    @DisplayName("조회 결과와 값 크기를 family 태그별로 기록한다")
+    void recordGet_taggedByFamily() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ScheduleCacheMetricsService metrics = new ScheduleCacheMetricsService(registry);
+
+        long start = System.nanoTime();
+        metrics.recordGet("GROUP", ScheduleCacheMetricsService.RESULT_HIT, ScheduleCacheMetricsService.LAYER_LOCAL, start);
+        metrics.recordGet("GROUP", ScheduleCacheMetricsService.RESULT_HIT, ScheduleCacheMetricsService.LAYER_LOCAL, start);
+        metrics.recordGet("MY", ScheduleCacheMetricsService.RESULT_MISS, ScheduleCacheMetricsService.LAYER_REDIS, start);
+        metrics.recordDecode("GROUP", start, 555);
+
+        assertThat(registry.get("schedule_cache_get").tags("family", "GROUP", "result", "hit").timer().count()).isEqualTo(2);
+        assertThat(registry.get("schedule_cache_get").tags("family", "MY", "result", "miss").timer().count()).isEqualTo(1);
+        assertThat(registry.get("schedule_cache_payload_bytes").tags("family", "GROUP", "operation", "read")
+                .summary().totalAmount()).isEqualTo(555);
+    }
+}
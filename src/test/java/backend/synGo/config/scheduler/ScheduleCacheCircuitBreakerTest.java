@@ -0,0 +1,39 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.common.monitoring.metrics.ScheduleCacheMetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleCacheCircuitBreakerTest {
+
+    @Test
+    @DisplayName("실패 비율이 기준 이상이면 OPEN, 대기 후 probe 가 모두 성공하면 CLOSED")
+    void openAndRecover() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ScheduleCacheCircuitBreaker breaker = new ScheduleCacheCircuitBreaker(
+                new ScheduleCacheMetricsService(registry), 10, 4, 0.5, 1000, 50, 2);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            if (i % 2 == 0) breaker.onFailure();
+            else breaker.onSuccess(System.nanoTime());
+        }
+        assertThat(breaker.getState()).isEqualTo(ScheduleCacheCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(registry.get("schedule_cache_circuit_state").gauge().value()).isEqualTo(1);
+
+        Thread.sleep(60);
+        //HALF_OPEN 에서는 probe 수 만큼만 허용
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess(System.nanoTime());
+        breaker.onSuccess(System.nanoTime());
+
+        assertThat(breaker.getState()).isEqualTo(ScheduleCacheCircuitBreaker.State.CLOSED);
+        assertThat(registry.get("schedule_cache_circuit_transitions_total").tags("state", "OPEN").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,33 @@
+package backend.synGo.config.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleCachePolicyTest {
+
+    @Test
+    @DisplayName("연도가 바뀌어도 이번 달과의 거리를 개월 단위로 계산한다")
+    void monthDistance_yearRollover() {
+        YearMonth december = YearMonth.of(2025, 12);
+
+        assertThat(ScheduleCachePolicy.monthDistance(YearMonth.of(2026, 1), december)).isEqualTo(1);
+        assertThat(ScheduleCachePolicy.monthDistance(YearMonth.of(2025, 11), december)).isEqualTo(1);
+        assertThat(ScheduleCachePolicy.monthDistance(YearMonth.of(2024, 12), december)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("TTL 은 거리에 따라 줄어들고 최소 TTL 아래로는 줄지 않는다")
+    void scaleTtl_decay() {
+        ScheduleCacheProperties.Family policy = new ScheduleCacheProperties.Family(1, 12, 2, 10, 0.5, 5);
+        Duration base = Duration.ofMinutes(60);
+
+        assertThat(ScheduleCachePolicy.scaleTtl(base, policy, 0)).isEqualTo(Duration.ofMinutes(60));
+        assertThat(ScheduleCachePolicy.scaleTtl(base, policy, 1)).isEqualTo(Duration.ofMinutes(30));
+        assertThat(ScheduleCachePolicy.scaleTtl(base, policy, 6)).isEqualTo(Duration.ofMinutes(5));
+    }
+}
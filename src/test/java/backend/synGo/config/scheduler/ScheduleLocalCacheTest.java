@@ -0,0 +1,85 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.form.DateDtoForDay;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForDay;
+import backend.synGo.form.SlotDtoForMonth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleLocalCacheTest {
+
+    private static final String KEY = "GROUP:h:1:2025:3";
+    private static final OptionalLong VERSION = OptionalLong.of(7L);
+
+    private final AtomicLong now = new AtomicLong();
+    private final ScheduleLocalCache localCache = new ScheduleLocalCache(100, 30, now::get);
+
+    private static List<DateDtoForMonth> createMonth() {
+        List<SlotDtoForMonth> slots = new ArrayList<>();
+        slots.add(SlotDtoForMonth.builder().groupId(1L).slotId(10L).title("회의").build());
+        List<DateDtoForMonth> month = new ArrayList<>();
+        month.add(new DateDtoForMonth(1, LocalDate.of(2025, 3, 1), slots));
+        return month;
+    }
+
+    @Test
+    @DisplayName("저장한 한달 일정은 같은 값과 버전으로 조회되고 없는 key 는 null")
+    void getMonth_hitAndMiss() {
+        localCache.putMonth(KEY, createMonth(), VERSION);
+
+        assertThat(localCache.getMonth(KEY).getSchedule()).isEqualTo(createMonth());
+        assertThat(localCache.getMonth(KEY).getVersion()).isEqualTo(VERSION);
+        assertThat(localCache.getMonth("GROUP:h:1:2025:4")).isNull();
+    }
+
+    @Test
+    @DisplayName("저장 후 넘긴 list 를 바꿔도 캐시 값은 바뀌지 않고, 조회한 값은 바꿀 수 없다")
+    void putMonth_immutableCopy() {
+        List<DateDtoForMonth> month = createMonth();
+        localCache.putMonth(KEY, month, VERSION);
+        month.get(0).getSlotInfo().add(SlotDtoForMonth.builder().slotId(11L).build());
+        month.add(new DateDtoForMonth(1, LocalDate.of(2025, 3, 2), new ArrayList<>()));
+
+        List<DateDtoForMonth> cached = localCache.getMonth(KEY).getSchedule();
+        assertThat(cached).isEqualTo(createMonth());
+        assertThatThrownBy(() -> cached.add(month.get(1))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> cached.get(0).getSlotInfo().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("하루 일정도 바꿀 수 없는 복사본으로 보관한다")
+    void putDay_immutableCopy() {
+        String key = "GROUP_DAY:1:2025:3:1";
+        List<SlotDtoForDay> slots = new ArrayList<>();
+        slots.add(SlotDtoForDay.builder().groupId(1L).slotId(10L).title("회의").build());
+        localCache.putDay(key, new DateDtoForDay(1, LocalDate.of(2025, 3, 1), slots));
+        slots.add(SlotDtoForDay.builder().slotId(11L).build());
+
+        DateDtoForDay cached = localCache.getDay(key);
+        assertThat(cached.getSlotInfo()).hasSize(1);
+        assertThatThrownBy(() -> cached.getSlotInfo().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("무효화하거나 TTL 이 지나면 제거된다")
+    void getMonth_evicted() {
+        localCache.putMonth(KEY, createMonth(), VERSION);
+        localCache.invalidate(KEY);
+        assertThat(localCache.getMonth(KEY)).isNull();
+
+        localCache.putMonth(KEY, createMonth(), VERSION);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        assertThat(localCache.getMonth(KEY)).isNull();
+    }
+}
@@ -0,0 +1,73 @@
+package backend.synGo.config.scheduler;
+
+import backend.synGo.domain.slot.SlotImportance;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForMonth;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleSerializerTest {
+
+    private final JsonScheduleSerializer jsonSerializer = new JsonScheduleSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final BinaryScheduleSerializer binarySerializer = new BinaryScheduleSerializer();
+
+    private static List<DateDtoForMonth> createMonth() {
+        List<DateDtoForMonth> month = new ArrayList<>();
+        LocalDate first = LocalDate.of(2025, 3, 1);
+        for (int day = 0; day < 31; day++) {
+            LocalDate today = first.plusDays(day);
+            List<SlotDtoForMonth> slots = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                slots.add(SlotDtoForMonth.builder()
+                        .groupId(day % 2 == 0 ? 12L : null)
+                        .slotId(1000L + day * 3 + i)
+                        .title(i == 0 ? "주간 회의" : "일정 " + day + "-" + i)
+                        .startTime(today.atTime(9 + i, 30))
+                        .importance(i == 2 ? null : SlotImportance.values()[(day + i) % 5])
+                        .build());
+            }
+            month.add(new DateDtoForMonth(slots.size(), today, slots));
+        }
+        return month;
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화 후 역직렬화하면 같은 값이고 JSON 보다 작다")
+    void binary_roundTrip() {
+        List<DateDtoForMonth> month = createMonth();
+        byte[] binary = binarySerializer.serialize(month);
+
+        assertThat(binarySerializer.deserialize(binary)).isEqualTo(month);
+        assertThat(binary.length).isLessThan(jsonSerializer.serialize(month).length / 2);
+    }
+
+    @Test
+    @DisplayName("캐시에 저장하는 하루 단위 값도 같은 값으로 역직렬화되고 JSON 보다 작다")
+    void binary_roundTripPerDay() {
+        for (DateDtoForMonth date : createMonth()) {
+            List<DateDtoForMonth> day = List.of(date);
+            byte[] binary = binarySerializer.serialize(day);
+
+            assertThat(binarySerializer.deserialize(binary)).isEqualTo(day);
+            assertThat(binary.length).isLessThan(jsonSerializer.serialize(day).length / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 형식으로 저장된 값은 역직렬화하지 않는다")
+    void binary_rejectJson() {
+        byte[] json = jsonSerializer.serialize(createMonth());
+
+        assertThatThrownBy(() -> binarySerializer.deserialize(json))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package backend.synGo.config.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ScheduleSingleFlightLeaseTest {
+
+    @Autowired
+    @Qualifier("groupScheduleRedisTemplate")
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final String key = "TEST:" + UUID.randomUUID();
+    private final String lockKey = "LOCK:" + key;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(lockKey);
+    }
+
+    private ScheduleSingleFlight singleFlight(long waitMillis) {
+        return new ScheduleSingleFlight(redisTemplate, true, 3000, waitMillis, 20);
+    }
+
+    @Test
+    @DisplayName("lease 를 잡은 동안 loader 를 실행하고 끝나면 lease 를 해제한다")
+    void lease_acquireAndRelease() {
+        AtomicReference<Object> lockDuringLoad = new AtomicReference<>();
+
+        String value = singleFlight(1000).load(key, () -> null, () -> {
+            lockDuringLoad.set(redisTemplate.opsForValue().get(lockKey));
+            return "schedule";
+        });
+
+        assertThat(value).isEqualTo("schedule");
+        assertThat(lockDuringLoad.get()).isNotNull();
+        assertThat(redisTemplate.hasKey(lockKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("lease 가 만료되어 다른 서버가 잡은 lock 은 해제하지 않는다")
+    void lease_releaseOnlyOwnToken() {
+        singleFlight(1000).load(key, () -> null, () -> {
+            //적재 중 lease 만료 후 다른 서버가 획득
+            redisTemplate.opsForValue().set(lockKey, "other-server", Duration.ofSeconds(3));
+            return "schedule";
+        });
+
+        assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("other-server");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease 를 잡고 있으면 loader 없이 캐시가 채워질 때까지 기다린다")
+    void lease_waitForOtherServer() {
+        redisTemplate.opsForValue().set(lockKey, "other-server", Duration.ofSeconds(3));
+        AtomicInteger polls = new AtomicInteger();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        String value = singleFlight(1000).load(key,
+                () -> polls.incrementAndGet() > 3 ? "cached" : null,
+                () -> {
+                    loadCount.incrementAndGet();
+                    return "schedule";
+                });
+
+        assertThat(value).isEqualTo("cached");
+        assertThat(loadCount.get()).isZero();
+        assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("other-server");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 캐시를 저장하지 않고 lease 를 해제하면 대기 시간을 기다리지 않고 loader 를 실행한다")
+    void lease_releasedWithoutSave() {
+        redisTemplate.opsForValue().set(lockKey, "other-server", Duration.ofMillis(100));
+        AtomicInteger loadCount = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String value = singleFlight(2000).load(key, () -> null, () -> {
+            loadCount.incrementAndGet();
+            return "schedule";
+        });
+
+        assertThat(value).isEqualTo("schedule");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 캐시가 채워지지 않으면 직접 loader 를 실행한다")
+    void lease_waitTimeout() {
+        redisTemplate.opsForValue().set(lockKey, "other-server", Duration.ofSeconds(3));
+        AtomicInteger loadCount = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String value = singleFlight(200).load(key, () -> null, () -> {
+            loadCount.incrementAndGet();
+            return "schedule";
+        });
+
+        assertThat(value).isEqualTo("schedule");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+        assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("other-server");
+    }
+}
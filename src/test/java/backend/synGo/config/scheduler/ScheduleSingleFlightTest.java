@@ -0,0 +1,61 @@
+package backend.synGo.config.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleSingleFlightTest {
+
+    @Test
+    @DisplayName("같은 key 로 동시에 들어온 캐시 miss 는 loader 를 한번만 실행한다")
+    void load_coalesce() throws Exception {
+        ScheduleSingleFlight singleFlight = new ScheduleSingleFlight(null, false, 3000, 2000, 50);
+        AtomicReference<String> cache = new AtomicReference<>();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.load("GROUP:1:2025:3", cache::get, () -> {
+                loadCount.incrementAndGet();
+                loading.countDown();
+                await(release);
+                cache.set("schedule");
+                return "schedule";
+            })));
+            loading.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> singleFlight.load("GROUP:1:2025:3", cache::get, () -> {
+                    loadCount.incrementAndGet();
+                    return "schedule";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("schedule");
+            }
+            assertThat(loadCount.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package backend.synGo.controller;
 
 import backend.synGo.auth.controller.form.LoginForm;
+import backend.synGo.config.scheduler.CachedMonth;
+import backend.synGo.config.scheduler.GroupSchedulerProvider;
 import backend.synGo.domain.schedule.Theme;
 import backend.synGo.domain.schedule.UserScheduler;
 import backend.synGo.domain.slot.SlotImportance;
 import backend.synGo.domain.slot.Status;
 import backend.synGo.domain.slot.UserSlot;
 import backend.synGo.domain.user.User;
+import backend.synGo.form.DateDtoForMonth;
 import backend.synGo.form.requestForm.SlotForm;
 import backend.synGo.repository.UserRepository;
 import backend.synGo.repository.UserSchedulerRepository;
@@ -26,10 +29,17 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 @SpringBootTest
@@ -50,7 +60,11 @@ public class MySlotControllerTest {
     @Autowired
     private ThemeService themeService;
 
+    @Autowired
+    private GroupSchedulerProvider groupSchedulerProvider;
+
     private String accessToken;
+    private Long userId;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -65,6 +79,7 @@ public class MySlotControllerTest {
                 savedScheduler
         );
         userRepository.save(user);
+        userId = user.getId();
 
         // 로그인 → AccessToken 획득
         LoginForm loginForm = LoginForm.builder()
@@ -153,4 +168,126 @@ public class MySlotControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("슬롯 삭제 성공"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("슬롯 생성 시 캐시된 한달 데이터의 하루만 교체한다")
+    void generateSlot_patchMonthCache() throws Exception {
+        LocalDateTime startDate = LocalDateTime.now().plusMinutes(1);
+        int year = startDate.getYear();
+        int month = startDate.getMonthValue();
+        mockMvc.perform(post("/api/my/slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .content(objectMapper.writeValueAsString(SlotForm.builder()
+                                .startDate(startDate)
+                                .status(Status.PLAN)
+                                .title("기존 슬롯")
+                                .importance(SlotImportance.LOW)
+                                .build())))
+                .andExpect(status().isOk());
+        //이번 달 캐시 저장
+        mockMvc.perform(get("/api/my/date/month")
+                        .param("year", String.valueOf(year))
+                        .param("month", String.valueOf(month))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/my/slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .content(objectMapper.writeValueAsString(SlotForm.builder()
+                                .startDate(startDate)
+                                .status(Status.PLAN)
+                                .title("추가 슬롯")
+                                .importance(SlotImportance.VERY_HIGH)
+                                .build())))
+                .andExpect(status().isOk());
+        //커밋 전에는 캐시가 바뀌지 않는다
+        assertThat(groupSchedulerProvider.getMySchedule(userId, year, month).getSchedule().get(0).getSlotCount()).isEqualTo(1);
+        runAfterCommit();
+
+        DateDtoForMonth cachedDay = groupSchedulerProvider.getMySchedule(userId, year, month).getSchedule().stream()
+                .filter(date -> date.getToday().equals(startDate.toLocalDate()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(cachedDay.getSlotCount()).isEqualTo(2);
+        assertThat(cachedDay.getSlotInfo().get(0).getTitle()).isEqualTo("추가 슬롯");
+    }
+
+    @Test
+    @DisplayName("일정이 없는 달도 빈 달로 캐싱하고 슬롯 생성 시 하루를 채운다")
+    void getEmptyMonth_cachedAsEmpty() throws Exception {
+        LocalDateTime startDate = LocalDateTime.now().plusMinutes(1);
+        int year = startDate.getYear();
+        int month = startDate.getMonthValue();
+        mockMvc.perform(get("/api/my/date/month")
+                        .param("year", String.valueOf(year))
+                        .param("month", String.valueOf(month))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(0)));
+        assertThat(groupSchedulerProvider.getMySchedule(userId, year, month).getStatus()).isEqualTo(CachedMonth.Status.EMPTY);
+
+        mockMvc.perform(post("/api/my/slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .content(objectMapper.writeValueAsString(SlotForm.builder()
+                                .startDate(startDate)
+                                .status(Status.PLAN)
+                                .title("첫 슬롯")
+                                .importance(SlotImportance.LOW)
+                                .build())))
+                .andExpect(status().isOk());
+        runAfterCommit();
+
+        CachedMonth cached = groupSchedulerProvider.getMySchedule(userId, year, month);
+        assertThat(cached.getStatus()).isEqualTo(CachedMonth.Status.HIT);
+        assertThat(cached.getSchedule()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 버전이 바뀌면 캐시에 저장하지 않고, 캐시에서 응답할 때는 캐시에 저장된 버전으로 ETag 를 만든다")
+    void saveMonth_skippedWhenVersionChanged() throws Exception {
+        LocalDateTime startDate = LocalDateTime.now().plusMinutes(1);
+        int year = startDate.getYear();
+        int month = startDate.getMonthValue();
+        //DB 조회 전에 읽은 버전
+        OptionalLong version = groupSchedulerProvider.getMyVersion(userId, year, month);
+
+        mockMvc.perform(post("/api/my/slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .content(objectMapper.writeValueAsString(SlotForm.builder()
+                                .startDate(startDate)
+                                .status(Status.PLAN)
+                                .title("조회 중 추가된 슬롯")
+                                .importance(SlotImportance.LOW)
+                                .build())))
+                .andExpect(status().isOk());
+        runAfterCommit();
+
+        //변경 전에 조회한 빈 달은 저장되지 않는다
+        groupSchedulerProvider.saveMyScheduler(userId, List.of(), year, month, version);
+        assertThat(groupSchedulerProvider.getMySchedule(userId, year, month).isMiss()).isTrue();
+
+        //새 버전으로 저장된 뒤 캐시에서 응답해도 저장된 버전과 같은 ETag
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/my/date/month")
+                            .param("year", String.valueOf(year))
+                            .param("month", String.valueOf(month))
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(header().string("ETag", "\"my-" + groupSchedulerProvider.getMyVersion(userId, year, month).getAsLong() + "\""));
+        }
+        assertThat(groupSchedulerProvider.getMySchedule(userId, year, month).getVersion())
+                .isEqualTo(groupSchedulerProvider.getMyVersion(userId, year, month));
+    }
+
+    /**
+     * 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 실행되는 캐시 갱신을 직접 실행
+     */
+    private static void runAfterCommit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
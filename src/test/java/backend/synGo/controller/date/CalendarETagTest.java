@@ -0,0 +1,34 @@
+package backend.synGo.controller.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarETagTest {
+
+    @Test
+    @DisplayName("버전이 같으면 304 대상이다")
+    void sameVersion_notModified() {
+        String eTag = CalendarETag.of("group", OptionalLong.of(3));
+
+        assertThat(eTag).isEqualTo("\"group-3\"");
+        assertThat(CalendarETag.isNotModified("W/\"group-3\"", eTag)).isTrue();
+        assertThat(CalendarETag.isNotModified("\"group-2\"", eTag)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 버전을 모르면 ETag 없이 200으로 응답한다")
+    void unknownVersion_skipETag() {
+        String eTag = CalendarETag.of("group", OptionalLong.empty());
+
+        assertThat(eTag).isNull();
+        assertThat(CalendarETag.isNotModified("*", eTag)).isFalse();
+        ResponseEntity<String> response = CalendarETag.ok(eTag).body("ok");
+        assertThat(response.getHeaders().getETag()).isNull();
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    }
+}
@@ -22,8 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -133,6 +136,67 @@ class GroupDateSearchControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("버전이 같으면 한달 조회 304 반환")
+    void getGroupMonthDateData_notModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/groups/" + groupId + "/date/month")
+                        .header("Authorization", "Bearer " + leaderToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/groups/" + groupId + "/date/month")
+                        .header("Authorization", "Bearer " + leaderToken)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("그룹원이 아니면 If-None-Match: * 여도 304 대신 ETag 없이 406 반환")
+    void getGroupDateData_notMember_noETag() throws Exception {
+        SignUpForm signUpForm = new SignUpForm("외부유저", "outsider@test.com", "Qwer1234!", "Qwer1234!");
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signUpForm)))
+                .andExpect(status().isOk());
+        String loginResp = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginForm("Qwer1234!", "outsider@test.com"))))
+                .andReturn().getResponse().getContentAsString();
+        String outsiderToken = JsonPath.read(loginResp, "$.data.accessToken");
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        mockMvc.perform(get("/api/groups/" + groupId + "/date/month")
+                        .header("Authorization", "Bearer " + outsiderToken)
+                        .header("If-None-Match", "*"))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(header().doesNotExist("ETag"));
+        mockMvc.perform(get("/api/groups/" + groupId + "/date/day")
+                        .header("Authorization", "Bearer " + outsiderToken)
+                        .header("If-None-Match", "*")
+                        .param("year", String.valueOf(tomorrow.getYear()))
+                        .param("month", String.valueOf(tomorrow.getMonthValue()))
+                        .param("day", String.valueOf(tomorrow.getDayOfMonth())))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    @DisplayName("그룹 free/busy 조회 성공 - 겹치는 슬롯 1개, 바쁜 시간 1개, 빈 시간 2개")
+    void getGroupFreeBusy_success() throws Exception {
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+
+        mockMvc.perform(get("/api/groups/" + groupId + "/free-busy")
+                        .header("Authorization", "Bearer " + leaderToken)
+                        .param("from", from.toString())
+                        .param("to", from.plusDays(3).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.slots", hasSize(1)))
+                .andExpect(jsonPath("$.data.slots[0].title").value("회의"))
+                .andExpect(jsonPath("$.data.busy", hasSize(1)))
+                .andExpect(jsonPath("$.data.free", hasSize(2)));
+    }
+
     @Test
     @DisplayName("하루 슬롯 조회 성공")
     void getGroupDayDateData_success() throws Exception {
@@ -173,4 +237,31 @@ class GroupDateSearchControllerTest {
                         .param("day", "50"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 달 조회 성공")
+    void getGroupRangeDateData_success() throws Exception {
+        YearMonth now = YearMonth.now();
+        mockMvc.perform(get("/api/groups/" + groupId + "/date/range")
+                        .header("Authorization", "Bearer " + leaderToken)
+                        .param("from", now.toString())
+                        .param("to", now.plusMonths(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("조회 성공"))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].slotCount").value(1))
+                .andExpect(jsonPath("$.data[0].slotInfo[0].groupId").value(groupId))
+                .andExpect(jsonPath("$.data[0].slotInfo[0].title").value("회의"));
+    }
+
+    @Test
+    @DisplayName("여러 달 조회 실패 - 12개월 초과 범위")
+    void getGroupRangeDateData_invalidRange() throws Exception {
+        mockMvc.perform(get("/api/groups/" + groupId + "/date/range")
+                        .header("Authorization", "Bearer " + leaderToken)
+                        .param("from", "2025-01")
+                        .param("to", "2026-03"))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(jsonPath("$.message").value("조회 범위를 확인해주세요"));
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -143,6 +144,43 @@ class UserDataDateSearchControllerTest {
                 .andExpect(jsonPath("$.data.slotInfo", hasSize(1)));
     }
 
+    @Test
+    @DisplayName("개인 여러 달 슬롯 데이터 조회 성공 - date.size == 2, slotCount 각각 3, 1, slotInfo.size 각각 2, 1")
+    void getUserDataForRange_success() throws Exception {
+        YearMonth now = YearMonth.now();
+        mockMvc.perform(get("/api/my/date/range")
+                        .param("from", now.toString())
+                        .param("to", now.plusMonths(1).toString())
+                        .header("Authorization", "Bearer " + leaderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("개인 데이터 조회 성공"))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].slotCount").value(3))
+                .andExpect(jsonPath("$.data[0].slotInfo", hasSize(2)))
+                .andExpect(jsonPath("$.data[1].slotCount").value(1))
+                .andExpect(jsonPath("$.data[1].slotInfo", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("개인 + 그룹 agenda 다음 5개 일정 조회 성공 - data.size == 5")
+    void getAgenda_success() throws Exception {
+        mockMvc.perform(get("/api/my/agenda")
+                        .param("limit", "5")
+                        .header("Authorization", "Bearer " + leaderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("agenda 조회 성공"))
+                .andExpect(jsonPath("$.data", hasSize(5)));
+    }
+
+    @Test
+    @DisplayName("agenda 조회 실패 - 잘못된 조회 개수")
+    void getAgenda_invalidLimit() throws Exception {
+        mockMvc.perform(get("/api/my/agenda")
+                        .param("limit", "0")
+                        .header("Authorization", "Bearer " + leaderToken))
+                .andExpect(status().isNotAcceptable());
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         // 1. 회원가입 및 로그인
@@ -157,6 +157,23 @@ class GroupBasicControllerTest {
                 .andExpect(jsonPath("$.data.count").value(1));
     }
 
+    @Test
+    @DisplayName("그룹 커서 페이징 - size 가 1 미만이면 406, 최대값을 넘으면 최대값으로 제한")
+    void getAllGroup_cursor_size() throws Exception {
+        mockMvc.perform(get("/api/groups")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("cursor", "")
+                        .param("size", "0"))
+                .andExpect(status().isNotAcceptable());
+
+        mockMvc.perform(get("/api/groups")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("cursor", "")
+                        .param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(100));
+    }
+
     @DisplayName("비공개 그룹 참여 성공")
     @Test
     void joinGroup_private_success() throws Exception {
@@ -2,12 +2,18 @@ package backend.synGo.controller.group;
 
 import backend.synGo.auth.controller.form.LoginForm;
 import backend.synGo.auth.controller.form.SignUpForm;
+import backend.synGo.config.scheduler.GroupSchedulerProvider;
+import backend.synGo.domain.date.GroupDateSummary;
 import backend.synGo.domain.group.GroupType;
 import backend.synGo.domain.slot.SlotImportance;
 import backend.synGo.domain.slot.Status;
+import backend.synGo.form.DateDtoForMonth;
 import backend.synGo.form.requestForm.GroupRequestForm;
 import backend.synGo.form.requestForm.JoinGroupForm;
 import backend.synGo.form.requestForm.SlotForm;
+import backend.synGo.repository.GroupDateSummaryRepository;
+import backend.synGo.repository.UserGroupRepository;
+import backend.synGo.util.GroupDateSummaryInitializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 import jakarta.persistence.EntityManager;
@@ -20,14 +26,20 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static backend.synGo.controller.group.SlotMemberController.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +54,14 @@ public class GroupSlotControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private GroupSchedulerProvider groupSchedulerProvider;
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+    @Autowired
+    private GroupDateSummaryRepository groupDateSummaryRepository;
+    @Autowired
+    private GroupDateSummaryInitializer groupDateSummaryInitializer;
     private String leaderToken;
     private Long groupId;
     private String memberToken;
@@ -170,6 +190,30 @@ public class GroupSlotControllerTest {
                 .andExpect(jsonPath("$.message").value("권한 부족"));
     }
 
+    @Test
+    @DisplayName("공통 빈 시간 조회 성공 - 슬롯 시간은 후보에서 제외")
+    void getCommonAvailability_success() throws Exception {
+        LocalDateTime busyFrom = LocalDateTime.now().plusDays(1).plusHours(1).withNano(0);
+        mockMvc.perform(
+                        org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get("/api/groups/" + groupId + "/availability")
+                                .param("from", busyFrom.toString())
+                                .param("to", busyFrom.plusHours(4).toString())
+                                .param("duration", "60")
+                                .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+
+        LocalDateTime freeFrom = LocalDate.now().plusDays(3).atStartOfDay();
+        mockMvc.perform(
+                        org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get("/api/groups/" + groupId + "/availability")
+                                .param("from", freeFrom.toString())
+                                .param("to", freeFrom.plusDays(1).toString())
+                                .param("duration", "60")
+                                .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
     @Test
     @DisplayName("슬롯 조회 성공 - 그룹원은 조회 가능")
     void getGroupSlot_success() throws Exception {
@@ -262,6 +306,133 @@ public class GroupSlotControllerTest {
                 .andExpect(jsonPath("$.message").value("권한 부족"));
     }
 
+    @Test
+    @DisplayName("슬롯 생성 시 그룹원 모두의 유저 그룹 캐시를 삭제한다")
+    void createGroupSlot_evictMembersCache() throws Exception {
+        LocalDateTime startDate = LocalDateTime.now().plusMinutes(1);
+        int year = startDate.getYear();
+        int month = startDate.getMonthValue();
+        List<Long> memberIds = userGroupRepository.findUserIdsByGroupId(groupId);
+        for (Long memberId : memberIds) {
+            groupSchedulerProvider.saveMyGroupScheduler(memberId,
+                    List.of(new DateDtoForMonth(1, startDate.toLocalDate(), new ArrayList<>())), year, month);
+        }
+        SlotForm validForm = SlotForm.builder()
+                .startDate(startDate)
+                .status(Status.PLAN)
+                .title("캐시 삭제 확인")
+                .importance(SlotImportance.LOW)
+                .build();
+
+        mockMvc.perform(post("/api/groups/"+ groupId + "/slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + leaderToken)
+                        .content(objectMapper.writeValueAsString(validForm)))
+                .andExpect(status().isOk());
+
+        assertThat(memberIds).hasSize(2);
+        //커밋 전에는 캐시가 남아 있고 커밋 후 삭제된다
+        for (Long memberId : memberIds) {
+            assertThat(groupSchedulerProvider.getMyGroupSchedule(memberId, year, month).isMiss()).isFalse();
+        }
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        for (Long memberId : memberIds) {
+            assertThat(groupSchedulerProvider.getMyGroupSchedule(memberId, year, month).isMiss()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("슬롯 생성, 수정, 삭제 후 날짜 요약이 슬롯 수와 중요도 상위 2개 슬롯을 유지한다")
+    void groupDateSummary_followsSlotChanges() throws Exception {
+        LocalDate day = LocalDate.now().plusDays(1);
+        //생성 - 중요도가 높은 슬롯이 첫번째
+        SlotForm highForm = SlotForm.builder()
+                .startDate(day.atTime(9, 0))
+                .endDate(day.atTime(10, 0))
+                .status(Status.PLAN)
+                .title("중요 회의")
+                .importance(SlotImportance.HIGH)
+                .build();
+        String highResp = mockMvc.perform(post("/api/groups/" + groupId + "/slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + leaderToken)
+                        .content(objectMapper.writeValueAsString(highForm)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Integer highId = JsonPath.read(highResp, "$.data.slotId");
+        Long highSlotId = highId.longValue();
+        em.flush();
+        em.clear();
+
+        GroupDateSummary created = findSummary(day);
+        assertThat(created.getSlotCount()).isEqualTo(2);
+        assertThat(created.getFirstSlotId()).isEqualTo(highSlotId);
+        assertThat(created.getSecondSlotId()).isEqualTo(slotId);
+        assertThat(created.getSecondTitle()).isEqualTo("회의 준비");
+
+        //수정 - 제목과 중요도가 요약에 반영
+        Map<String, Object> updateForm = Map.of(
+                "title", "회의 변경",
+                "startDate", day.atTime(11, 0),
+                "endDate", day.atTime(12, 0),
+                "importance", SlotImportance.LOW,
+                "status", Status.PLAN.name());
+        mockMvc.perform(put("/api/groups/" + groupId + "/slots/" + slotId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + leaderToken)
+                        .content(objectMapper.writeValueAsString(updateForm)))
+                .andExpect(status().isOk());
+        em.flush();
+        em.clear();
+
+        GroupDateSummary updated = findSummary(day);
+        assertThat(updated.getSlotCount()).isEqualTo(2);
+        assertThat(updated.getSecondSlotId()).isEqualTo(slotId);
+        assertThat(updated.getSecondTitle()).isEqualTo("회의 변경");
+        assertThat(updated.getSecondImportance()).isEqualTo(SlotImportance.LOW);
+
+        //삭제 - 남은 슬롯이 첫번째, 마지막 슬롯 삭제 시 요약도 삭제
+        mockMvc.perform(delete("/api/groups/" + groupId + "/slots/" + highSlotId)
+                        .header("Authorization", "Bearer " + leaderToken))
+                .andExpect(status().isOk());
+        em.flush();
+        em.clear();
+
+        GroupDateSummary deleted = findSummary(day);
+        assertThat(deleted.getSlotCount()).isEqualTo(1);
+        assertThat(deleted.getFirstSlotId()).isEqualTo(slotId);
+        assertThat(deleted.getSecondSlotId()).isNull();
+
+        mockMvc.perform(delete("/api/groups/" + groupId + "/slots/" + slotId)
+                        .header("Authorization", "Bearer " + leaderToken))
+                .andExpect(status().isOk());
+        em.flush();
+        em.clear();
+
+        assertThat(groupDateSummaryRepository.findByGroupIdAndStartDate(groupId, day)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 요약이 남아 있어도 요약이 없는 date 만 찾아 다시 채우고, 다시 실행해도 중복 저장하지 않는다")
+    void groupDateSummaryInitializer_backfill() throws Exception {
+        LocalDate day = LocalDate.now().plusDays(1);
+        groupDateSummaryRepository.deleteByGroupIdAndStartDate(groupId, day);
+
+        groupDateSummaryInitializer.run();
+        groupDateSummaryInitializer.run();
+        em.flush();
+        em.clear();
+
+        GroupDateSummary summary = findSummary(day);
+        assertThat(summary.getSlotCount()).isEqualTo(1);
+        assertThat(summary.getFirstSlotId()).isEqualTo(slotId);
+        assertThat(summary.getFirstTitle()).isEqualTo("회의 준비");
+    }
+
+    private GroupDateSummary findSummary(LocalDate day) {
+        return groupDateSummaryRepository.findByGroupIdAndStartDate(groupId, day).orElseThrow();
+    }
+
     private Long getUserGroupId(String token) throws Exception {
         String response = mockMvc.perform(org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get("/api/groups/" + groupId + "/role")
                         .header("Authorization", "Bearer " + token))
@@ -0,0 +1,127 @@
+package backend.synGo.query;
+
+import backend.synGo.domain.date.Date;
+import backend.synGo.domain.group.Group;
+import backend.synGo.domain.group.GroupType;
+import backend.synGo.domain.slot.GroupSlot;
+import backend.synGo.domain.slot.SlotImportance;
+import backend.synGo.domain.slot.UserSlot;
+import backend.synGo.domain.user.User;
+import backend.synGo.domain.userGroupData.Role;
+import backend.synGo.domain.userGroupData.UserGroup;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForMonth;
+import backend.synGo.repository.DateRepository;
+import backend.synGo.repository.GroupRepository;
+import backend.synGo.repository.UserGroupRepository;
+import backend.synGo.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+public class DateRepositoryQueryTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    GroupRepository groupRepository;
+    @Autowired
+    UserGroupRepository userGroupRepository;
+    @Autowired
+    DateRepository dateRepository;
+    @Autowired
+    EntityManager em;
+
+    private static final LocalDate DAY = LocalDate.of(2030, 5, 10);
+    private static final LocalDate MONTH_START = DAY.withDayOfMonth(1);
+    private static final LocalDate MONTH_END = MONTH_START.plusMonths(1);
+
+    @Test
+    @DisplayName("개인 슬롯은 문자열로 저장된 중요도를 우선순위로 정렬해 상위 2개만 조회한다")
+    public void 개인_상위2개_중요도_순서() {
+        // given: 문자열 정렬이면 VERY_HIGH, LOW 순서가 되는 중요도
+        User user = userRepository.save(new User("테스터"));
+        Date date = new Date(user, DAY);
+        addUserSlot(date, "낮음", SlotImportance.LOW);
+        UserSlot firstHigh = addUserSlot(date, "높음1", SlotImportance.HIGH);
+        UserSlot veryHigh = addUserSlot(date, "매우 높음", SlotImportance.VERY_HIGH);
+        addUserSlot(date, "높음2", SlotImportance.HIGH);
+        dateRepository.save(date);
+        //다른 달의 date 는 제외
+        Date nextMonth = new Date(user, MONTH_END);
+        addUserSlot(nextMonth, "다음 달", SlotImportance.VERY_HIGH);
+        dateRepository.save(nextMonth);
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<DateDtoForMonth> result = dateRepository.findUserMonthTop2(user.getId(), MONTH_START, MONTH_END);
+
+        // then: 중요도 내림차순, 같은 중요도는 id 순
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getToday()).isEqualTo(DAY);
+        assertThat(result.get(0).getSlotCount()).isEqualTo(4);
+        assertThat(result.get(0).getSlotInfo()).extracting(SlotDtoForMonth::getSlotId)
+                .containsExactly(veryHigh.getId(), firstHigh.getId());
+        assertThat(result.get(0).getSlotInfo()).extracting(SlotDtoForMonth::getImportance)
+                .containsExactly(SlotImportance.VERY_HIGH, SlotImportance.HIGH);
+    }
+
+    @Test
+    @DisplayName("그룹 슬롯은 ordinal 로 저장된 중요도 순으로 속한 그룹의 date 마다 상위 2개만 조회한다")
+    public void 그룹_상위2개_중요도_순서() {
+        // given
+        User user = userRepository.save(new User("테스터"));
+        Group group = groupRepository.save(new Group(GroupType.BASIC, "상위 2개 그룹", "설명"));
+        userGroupRepository.save(new UserGroup("병장", user, group, Role.LEADER));
+        Date date = new Date(group, DAY);
+        addGroupSlot(date, "매우 낮음", SlotImportance.VERY_LOW);
+        GroupSlot firstHigh = addGroupSlot(date, "높음1", SlotImportance.HIGH);
+        addGroupSlot(date, "보통", SlotImportance.MEDIUM);
+        GroupSlot veryHigh = addGroupSlot(date, "매우 높음", SlotImportance.VERY_HIGH);
+        addGroupSlot(date, "높음2", SlotImportance.HIGH);
+        dateRepository.save(date);
+        //속하지 않은 그룹의 date 는 제외
+        Group otherGroup = groupRepository.save(new Group(GroupType.BASIC, "다른 그룹", "설명"));
+        Date otherDate = new Date(otherGroup, DAY);
+        addGroupSlot(otherDate, "다른 그룹 일정", SlotImportance.VERY_HIGH);
+        dateRepository.save(otherDate);
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<DateDtoForMonth> result = dateRepository.findUserGroupsMonthTop2(user.getId(), MONTH_START, MONTH_END);
+
+        // then: 중요도 내림차순, 같은 중요도는 id 순
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getSlotCount()).isEqualTo(5);
+        assertThat(result.get(0).getSlotInfo()).extracting(SlotDtoForMonth::getSlotId)
+                .containsExactly(veryHigh.getId(), firstHigh.getId());
+        assertThat(result.get(0).getSlotInfo()).extracting(SlotDtoForMonth::getImportance)
+                .containsExactly(SlotImportance.VERY_HIGH, SlotImportance.HIGH);
+        assertThat(result.get(0).getSlotInfo()).extracting(SlotDtoForMonth::getGroupId)
+                .containsOnly(group.getId());
+    }
+
+    private static UserSlot addUserSlot(Date date, String title, SlotImportance importance) {
+        date.addSlotCount();
+        return UserSlot.createUserSlot(null, title, null, DAY.atTime(9, 0), DAY.atTime(10, 0), null, importance, date);
+    }
+
+    private static GroupSlot addGroupSlot(Date date, String title, SlotImportance importance) {
+        date.addSlotCount();
+        return GroupSlot.createGroupSlot(null, title, null, DAY.atTime(9, 0), DAY.atTime(10, 0), null, importance, date);
+    }
+}
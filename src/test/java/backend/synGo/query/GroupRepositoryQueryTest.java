@@ -5,6 +5,7 @@ import backend.synGo.domain.group.GroupType;
 import backend.synGo.domain.user.User;
 import backend.synGo.domain.userGroupData.Role;
 import backend.synGo.domain.userGroupData.UserGroup;
+import backend.synGo.form.GroupsPagingCursor;
 import backend.synGo.form.GroupsPagingForm;
 import backend.synGo.repository.GroupRepository;
 import backend.synGo.repository.UserGroupRepository;
@@ -20,6 +21,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -61,4 +64,30 @@ public class GroupRepositoryQueryTest {
         assertThat(result).isNotEmpty();
         assertThat(result.getContent()).anyMatch(g -> g.getName().equals("테스트 그룹"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("그룹 전체 조회 커서 페이징 쿼리 테스트")
+    public void 그룹_커서_조회_쿼리_정상작동_확인() {
+        // given: 데이터 삽입
+        User user = new User("테스터");
+        userRepository.save(user);
+        for (int i = 0; i < 3; i++) {
+            Group group = new Group(GroupType.BASIC, "커서 그룹" + i, "설명");
+            groupRepository.save(group);
+            userGroupRepository.save(new UserGroup("병장", user, group, Role.LEADER));
+        }
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<GroupsPagingForm> firstPage = groupRepositoryQueryImpl.findAllGroupAfterCursor(null, 100);
+        GroupsPagingForm first = firstPage.get(0);
+        GroupsPagingCursor cursor = GroupsPagingCursor.decode(GroupsPagingCursor.from(first).encode());
+        List<GroupsPagingForm> nextPage = groupRepositoryQueryImpl.findAllGroupAfterCursor(cursor, 100);
+
+        // then
+        assertThat(nextPage).noneMatch(g -> g.getGroupId().equals(first.getGroupId()));
+        assertThat(nextPage.get(0).getGroupId()).isEqualTo(firstPage.get(1).getGroupId());
+    }
+}
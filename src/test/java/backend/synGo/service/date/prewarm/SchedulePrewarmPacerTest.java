@@ -0,0 +1,25 @@
+package backend.synGo.service.date.prewarm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchedulePrewarmPacerTest {
+
+    @Test
+    @DisplayName("초당 호출 수를 넘지 않도록 간격을 두고 deadline 이 지나면 중단한다")
+    void acquire_rateAndDeadline() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(20);
+        long start = System.nanoTime();
+        SchedulePrewarmService.Pacer pacer = new SchedulePrewarmService.Pacer(interval, start + TimeUnit.MILLISECONDS.toNanos(90));
+
+        int acquired = 0;
+        while (pacer.acquire()) acquired++;
+
+        assertThat(acquired).isBetween(4, 5);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(80));
+    }
+}
@@ -0,0 +1,34 @@
+package backend.synGo.webSocket;
+
+import backend.synGo.webSocket.config.GroupChannelSubscriptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupChannelSubscriptionsTest {
+
+    @Test
+    @DisplayName("그룹을 구독한 세션이 모두 해제되거나 종료되면 그룹 채널 구독을 해제한다")
+    void subscribeAndRelease() {
+        GroupChannelSubscriptions subscriptions = new GroupChannelSubscriptions(
+                new RedisMessageListenerContainer(), new MessageListenerAdapter(new Object()));
+
+        subscriptions.subscribe("s1", "sub-0", "/sub/groups/1/date/month?year=2025&month=7");
+        subscriptions.subscribe("s1", "sub-1", "/sub/groups/1/slots/10");
+        subscriptions.subscribe("s2", "sub-0", "/sub/groups/2/date/month?year=2025&month=7");
+        subscriptions.subscribe("s2", "sub-1", "/topic/greetings");
+        assertThat(subscriptions.getSubscribedGroups()).containsExactlyInAnyOrder(1L, 2L);
+
+        subscriptions.unsubscribe("s1", "sub-0");
+        assertThat(subscriptions.getSubscribedGroups()).containsExactlyInAnyOrder(1L, 2L);
+        subscriptions.unsubscribe("s1", "sub-1");
+        assertThat(subscriptions.getSubscribedGroups()).containsExactly(2L);
+
+        subscriptions.disconnect("s2");
+        subscriptions.disconnect("s2");
+        assertThat(subscriptions.getSubscribedGroups()).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package backend.synGo.webSocket;
+
+import backend.synGo.domain.slot.SlotImportance;
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.form.SlotDtoForMonth;
+import backend.synGo.webSocket.config.SyncMessageCodec;
+import backend.synGo.webSocket.config.SyncMessageHandler;
+import backend.synGo.webSocket.message.CacheEvictBatchMessage;
+import backend.synGo.webSocket.message.CacheEvictMessage;
+import backend.synGo.webSocket.message.GroupSlotChange;
+import backend.synGo.webSocket.message.GroupSyncBatchMessage;
+import backend.synGo.webSocket.message.GroupSyncDayMessage;
+import backend.synGo.webSocket.message.GroupSyncDetailMessage;
+import backend.synGo.webSocket.message.GroupSyncMonthMessage;
+import backend.synGo.webSocket.message.GroupSyncOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncMessageCodecTest {
+
+    private final SyncMessageCodec codec = new SyncMessageCodec();
+
+    @Test
+    @DisplayName("동기화 메시지는 변경 정보까지 종류에 맞는 handler 로 그대로 디코딩된다")
+    void roundTrip() {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 31, 9, 30);
+        GroupSlotChange change = GroupSlotChange.builder()
+                .operation(GroupSyncOperation.UPDATE)
+                .slotId(123456789L)
+                .title("회의")
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .importance(SlotImportance.values()[0])
+                .status("진행중")
+                .build();
+        DateDtoForMonth summary = new DateDtoForMonth(1, start.toLocalDate(), List.of(
+                new SlotDtoForMonth(7L, 123456789L, "회의", start, null)));
+        GroupSyncBatchMessage sync = new GroupSyncBatchMessage(7L,
+                List.of(new GroupSyncMonthMessage(7L, 2025, 12, List.of(summary)), new GroupSyncMonthMessage(7L, 2026, 1, null)),
+                List.of(new GroupSyncDayMessage(7L, 2025, 12, 31, List.of(change, GroupSlotChange.deleted(5L))),
+                        new GroupSyncDayMessage(7L, 2026, 1, 1, null)),
+                List.of(new GroupSyncDetailMessage(7L, 123456789L, change), new GroupSyncDetailMessage(7L, 5L, null)));
+        CacheEvictMessage evict = new CacheEvictMessage("GROUP:7:2025:12");
+        CacheEvictBatchMessage evictBatch = new CacheEvictBatchMessage(List.of("MY_GROUP:1:2025:12", "MY_GROUP:2:2025:12"));
+
+        List<Object> received = new ArrayList<>();
+        SyncMessageHandler handler = new SyncMessageHandler() {
+            @Override
+            public void onCacheEvict(CacheEvictMessage message) {
+                received.add(message);
+            }
+
+            @Override
+            public void onCacheEvictBatch(CacheEvictBatchMessage message) {
+                received.add(message);
+            }
+
+            @Override
+            public void onGroupSync(GroupSyncBatchMessage message) {
+                received.add(message);
+            }
+        };
+        codec.decode(codec.encode(sync), handler);
+        codec.decode(codec.encode(evict), handler);
+        codec.decode(codec.encode(evictBatch), handler);
+
+        assertThat(received).containsExactly(sync, evict, evictBatch);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지는 이전 서버도 읽도록 version 1 로 쓰고, version 1 그룹 동기화도 읽는다")
+    void previousVersion() {
+        byte[] evict = codec.encode(new CacheEvictMessage("GROUP:7:2025:12"));
+        byte[] evictBatch = codec.encode(new CacheEvictBatchMessage(List.of("MY_GROUP:1:2025:12")));
+        // version 1 그룹 동기화 : groupId 7, 달 1개(2025-12), 날짜 1개(2025-12-31), 슬롯 1개(5)
+        byte[] v1Sync = {(byte) 0xC5, 1, 3, 14, 1, (byte) 0xF7, (byte) 0xBD, 1, 1, (byte) 0xCA, (byte) 0xBF, 2, 1, 10};
+
+        List<GroupSyncBatchMessage> received = new ArrayList<>();
+        codec.decode(v1Sync, new SyncMessageHandler() {
+            @Override
+            public void onCacheEvict(CacheEvictMessage message) {
+            }
+
+            @Override
+            public void onCacheEvictBatch(CacheEvictBatchMessage message) {
+            }
+
+            @Override
+            public void onGroupSync(GroupSyncBatchMessage message) {
+                received.add(message);
+            }
+        });
+
+        assertThat(evict[1]).isEqualTo((byte) 1);
+        assertThat(evictBatch[1]).isEqualTo((byte) 1);
+        assertThat(received).containsExactly(new GroupSyncBatchMessage(7L,
+                List.of(new GroupSyncMonthMessage(7L, 2025, 12, null)),
+                List.of(new GroupSyncDayMessage(7L, 2025, 12, 31, null)),
+                List.of(new GroupSyncDetailMessage(7L, 5L, null))));
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식이나 모르는 버전은 거절한다")
+    void rejectUnknownFormat() {
+        byte[] json = "{\"cacheKey\":\"GROUP:7:2025:12\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] nextVersion = codec.encode(new CacheEvictMessage("GROUP:7:2025:12"));
+        nextVersion[1] = 3;
+
+        assertThatThrownBy(() -> codec.decode(json, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(nextVersion, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
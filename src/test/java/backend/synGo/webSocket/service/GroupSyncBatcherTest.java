@@ -0,0 +1,105 @@
+package backend.synGo.webSocket.service;
+
+import backend.synGo.form.DateDtoForMonth;
+import backend.synGo.webSocket.message.GroupSlotChange;
+import backend.synGo.webSocket.message.GroupSyncBatchMessage;
+import backend.synGo.webSocket.message.GroupSyncDayMessage;
+import backend.synGo.webSocket.message.GroupSyncDetailMessage;
+import backend.synGo.webSocket.message.GroupSyncEvent;
+import backend.synGo.webSocket.message.GroupSyncMonthMessage;
+import backend.synGo.webSocket.message.GroupSyncOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupSyncBatcherTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 3);
+
+    @Test
+    @DisplayName("같은 달, 하루, 슬롯 이벤트는 하나의 메시지에 한번만 포함된다")
+    void pendingSyncDeduplicates() {
+        GroupSyncBatcher.PendingSync sync = new GroupSyncBatcher.PendingSync(System.nanoTime());
+
+        for (long slotId = 1; slotId <= 3; slotId++) {
+            sync.add(new GroupSyncEvent(10L, YearMonth.from(DAY), DAY, slotId, null, null));
+        }
+        sync.add(new GroupSyncEvent(10L, null, DAY.plusDays(1), null, null, null));
+        sync.add(new GroupSyncEvent(10L, null, null, 1L, null, null));
+
+        GroupSyncBatchMessage message = sync.toMessage(10L);
+
+        assertThat(message.getGroupId()).isEqualTo(10L);
+        assertThat(message.getMonths()).containsExactly(new GroupSyncMonthMessage(10L, 2025, 7, null));
+        assertThat(message.getDays()).containsExactly(
+                new GroupSyncDayMessage(10L, 2025, 7, 3, null),
+                new GroupSyncDayMessage(10L, 2025, 7, 4, null));
+        assertThat(message.getSlots()).containsExactly(
+                new GroupSyncDetailMessage(10L, 1L, null),
+                new GroupSyncDetailMessage(10L, 2L, null),
+                new GroupSyncDetailMessage(10L, 3L, null));
+    }
+
+    @Test
+    @DisplayName("변경 정보는 슬롯과 날짜 별 마지막 값으로 합쳐지고, 정보 없는 이벤트가 섞이면 다시 조회하도록 null 로 남는다")
+    void pendingSyncMergesChanges() {
+        GroupSyncBatcher.PendingSync sync = new GroupSyncBatcher.PendingSync(System.nanoTime());
+        GroupSlotChange created = change(GroupSyncOperation.CREATE, 1L, "회의");
+        GroupSlotChange updated = change(GroupSyncOperation.UPDATE, 1L, "회의 변경");
+        DateDtoForMonth first = new DateDtoForMonth(1, DAY, List.of());
+        DateDtoForMonth second = new DateDtoForMonth(2, DAY, List.of());
+
+        sync.add(new GroupSyncEvent(10L, YearMonth.from(DAY), DAY, null, first, created));
+        sync.add(new GroupSyncEvent(10L, YearMonth.from(DAY), DAY, 1L, second, updated));
+        sync.add(new GroupSyncEvent(10L, YearMonth.from(DAY), DAY, 2L, second, GroupSlotChange.deleted(2L)));
+        //슬롯 맴버 변경은 변경 정보 없이 들어온다
+        sync.add(new GroupSyncEvent(10L, null, DAY.plusDays(1), 3L, null, null));
+        sync.add(new GroupSyncEvent(10L, null, DAY.plusDays(1), 3L, null, change(GroupSyncOperation.STATUS, 3L, "상태")));
+
+        GroupSyncBatchMessage message = sync.toMessage(10L);
+
+        assertThat(message.getMonths()).containsExactly(new GroupSyncMonthMessage(10L, 2025, 7, List.of(second)));
+        assertThat(message.getDays()).containsExactly(
+                new GroupSyncDayMessage(10L, 2025, 7, 3, List.of(
+                        updated.toBuilder().operation(GroupSyncOperation.CREATE).build(),
+                        GroupSlotChange.deleted(2L))),
+                new GroupSyncDayMessage(10L, 2025, 7, 4, null));
+        assertThat(message.getSlots()).containsExactly(
+                new GroupSyncDetailMessage(10L, 1L, updated),
+                new GroupSyncDetailMessage(10L, 2L, GroupSlotChange.deleted(2L)),
+                new GroupSyncDetailMessage(10L, 3L, null));
+    }
+
+    @Test
+    @DisplayName("재시도할 묶음은 새 묶음에 합쳐지고 시도 횟수와 첫 이벤트 시간을 유지한다")
+    void pendingSyncMergesFailedBatch() {
+        GroupSyncBatcher.PendingSync failed = new GroupSyncBatcher.PendingSync(100L);
+        failed.add(new GroupSyncEvent(10L, YearMonth.from(DAY), DAY, 1L, null, change(GroupSyncOperation.CREATE, 1L, "회의")));
+        failed.attempts = 1;
+        GroupSyncBatcher.PendingSync next = new GroupSyncBatcher.PendingSync(200L);
+        next.add(new GroupSyncEvent(10L, null, null, 2L, null, null));
+        next.add(new GroupSyncEvent(10L, null, null, 1L, null, GroupSlotChange.deleted(1L)));
+
+        next.merge(failed);
+
+        assertThat(next.firstEventNanos).isEqualTo(100L);
+        assertThat(next.attempts).isEqualTo(1);
+        assertThat(next.months.keySet()).containsExactly(YearMonth.from(DAY));
+        assertThat(next.slots.keySet()).containsExactly(1L, 2L);
+        assertThat(next.slots.get(1L)).isEqualTo(GroupSlotChange.deleted(1L));
+    }
+
+    private static GroupSlotChange change(GroupSyncOperation operation, Long slotId, String title) {
+        return GroupSlotChange.builder()
+                .operation(operation)
+                .slotId(slotId)
+                .title(title)
+                .startTime(DAY.atTime(9, 0))
+                .build();
+    }
+}